@@ -0,0 +1,67 @@
+import java.util.zip.ZipFile
+
+plugins {
+    id("java")
+    id("me.champeau.gradle.jmh") version "0.5.3"
+}
+
+// the library is an Android library, so the benchmarks compile its sources directly and run on the plain JVM
+sourceSets {
+    main {
+        java.srcDir("../livedata-combineutil-java/src/main/java")
+    }
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+// androidx.lifecycle is only published as AARs, so extract their classes.jar for the JVM classpath
+abstract class ExtractAarClasses : TransformAction<TransformParameters.None> {
+    @get:InputArtifact
+    abstract val inputArtifact: Provider<FileSystemLocation>
+
+    override fun transform(outputs: TransformOutputs) {
+        val aar = inputArtifact.get().asFile
+        val jar = outputs.file(aar.nameWithoutExtension + "-classes.jar")
+        ZipFile(aar).use { zip ->
+            zip.getInputStream(zip.getEntry("classes.jar")).use { input ->
+                jar.outputStream().use { output -> input.copyTo(output) }
+            }
+        }
+    }
+}
+
+val artifactType = Attribute.of("artifactType", String::class.java)
+
+dependencies {
+    registerTransform(ExtractAarClasses::class) {
+        from.attribute(artifactType, "aar")
+        to.attribute(artifactType, "jar")
+    }
+
+    implementation("com.google.code.findbugs:jsr305:3.0.2")
+    implementation("androidx.lifecycle:lifecycle-livedata:2.2.0")
+
+    // ArchTaskExecutor's default delegate references android.os classes, which must be loadable (but are never called)
+    runtimeOnly("com.google.android:android:4.1.1.4")
+
+    jmh("org.openjdk.jmh:jmh-core:1.26")
+    jmh("org.openjdk.jmh:jmh-generator-annprocess:1.26")
+}
+
+configurations.all {
+    if(isCanBeResolved) {
+        attributes.attribute(artifactType, "jar")
+    }
+}
+
+jmh {
+    jmhVersion = "1.26"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * Cost of activating and deactivating a combined LiveData, which plugs and unplugs every source.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActivationBenchmark {
+    @Param({"combine16", "array16", "array256", "array4096"})
+    public String shape;
+
+    private LiveData<?> combined;
+    private Blackhole blackhole;
+
+    private final Observer<Object> observer = new Observer<Object>() {
+        @Override
+        public void onChanged(Object o) {
+            blackhole.consume(o);
+        }
+    };
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        JvmMainThread.install();
+
+        final int width = shape.equals("combine16") ? 16 : Integer.parseInt(shape.substring("array".length()));
+        final MutableLiveData<Object>[] sources = new MutableLiveData[width];
+        for(int i = 0; i < width; i++) {
+            sources[i] = new MutableLiveData<>(new Object());
+        }
+
+        if(shape.equals("combine16")) {
+            combined = CombineBenchmark.createCombined(16, sources);
+        } else {
+            combined = CombineArrayBenchmark.createCombined("array", sources);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        JvmMainThread.uninstall();
+    }
+
+    @Benchmark
+    public void activateAndDeactivate() {
+        combined.observeForever(observer);
+        combined.removeObserver(observer);
+    }
+}
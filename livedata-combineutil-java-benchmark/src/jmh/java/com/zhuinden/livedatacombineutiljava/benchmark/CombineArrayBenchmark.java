@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava.benchmark;
+
+import com.zhuinden.livedatacombineutiljava.LiveDataCombineUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * Cost of a single source update propagated through {@link LiveDataCombineUtil#combineArray} and {@link LiveDataCombineUtil#combineArraySnapshot} of the given width.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CombineArrayBenchmark {
+    @Param({"16", "256", "4096"})
+    public int width;
+
+    @Param({"array", "snapshot"})
+    public String mode;
+
+    private MutableLiveData<Object> source;
+    private LiveData<?> combined;
+    private Blackhole blackhole;
+
+    private final Object first = new Object();
+    private final Object second = new Object();
+    private boolean toggle;
+
+    private final Observer<Object> observer = new Observer<Object>() {
+        @Override
+        public void onChanged(Object o) {
+            blackhole.consume(o);
+        }
+    };
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        JvmMainThread.install();
+
+        final MutableLiveData<Object>[] sources = new MutableLiveData[width];
+        for(int i = 0; i < width; i++) {
+            sources[i] = new MutableLiveData<>(new Object());
+        }
+        source = sources[0];
+
+        combined = createCombined(mode, sources);
+        combined.observeForever(observer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        combined.removeObserver(observer);
+        JvmMainThread.uninstall();
+    }
+
+    @Benchmark
+    public void update() {
+        toggle = !toggle;
+        source.setValue(toggle ? first : second);
+    }
+
+    static LiveData<?> createCombined(String mode, MutableLiveData<Object>[] sources) {
+        switch(mode) {
+            case "array":
+                return LiveDataCombineUtil.combineArray(sources);
+            case "snapshot":
+                return LiveDataCombineUtil.combineArraySnapshot(sources);
+            default:
+                throw new IllegalArgumentException("Unsupported mode: " + mode);
+        }
+    }
+}
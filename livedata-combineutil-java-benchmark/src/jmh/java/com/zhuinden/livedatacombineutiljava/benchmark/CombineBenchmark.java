@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava.benchmark;
+
+import com.zhuinden.livedatacombineutiljava.LiveDataCombineUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * Cost of a single source update propagated through a typed {@link LiveDataCombineUtil#combine} of the given arity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CombineBenchmark {
+    @Param({"2", "4", "8", "16"})
+    public int arity;
+
+    private MutableLiveData<Object>[] sources;
+    private LiveData<Object> combined;
+    private Blackhole blackhole;
+
+    private final Object first = new Object();
+    private final Object second = new Object();
+    private boolean toggle;
+
+    private final Observer<Object> observer = new Observer<Object>() {
+        @Override
+        public void onChanged(Object o) {
+            blackhole.consume(o);
+        }
+    };
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        JvmMainThread.install();
+
+        sources = new MutableLiveData[arity];
+        for(int i = 0; i < arity; i++) {
+            sources[i] = new MutableLiveData<>(new Object());
+        }
+        combined = createCombined(arity, sources);
+        combined.observeForever(observer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        combined.removeObserver(observer);
+        JvmMainThread.uninstall();
+    }
+
+    @Benchmark
+    public void update() {
+        toggle = !toggle;
+        sources[0].setValue(toggle ? first : second);
+    }
+
+    static LiveData<Object> createCombined(int arity, MutableLiveData<Object>[] sources) {
+        switch(arity) {
+            case 2:
+                return LiveDataCombineUtil.combine(sources[0], sources[1], new LiveDataCombineUtil.Combiner2<Object, Object, Object>() {
+                    @Override
+                    public Object combine(Object t1, Object t2) {
+                        return t1;
+                    }
+                });
+            case 4:
+                return LiveDataCombineUtil.combine(sources[0], sources[1], sources[2], sources[3], new LiveDataCombineUtil.Combiner4<Object, Object, Object, Object, Object>() {
+                    @Override
+                    public Object combine(Object t1, Object t2, Object t3, Object t4) {
+                        return t1;
+                    }
+                });
+            case 8:
+                return LiveDataCombineUtil.combine(sources[0], sources[1], sources[2], sources[3], sources[4], sources[5], sources[6], sources[7], new LiveDataCombineUtil.Combiner8<Object, Object, Object, Object, Object, Object, Object, Object, Object>() {
+                    @Override
+                    public Object combine(Object t1, Object t2, Object t3, Object t4, Object t5, Object t6, Object t7, Object t8) {
+                        return t1;
+                    }
+                });
+            case 16:
+                return LiveDataCombineUtil.combine(sources[0], sources[1], sources[2], sources[3], sources[4], sources[5], sources[6], sources[7], sources[8], sources[9], sources[10], sources[11], sources[12], sources[13], sources[14], sources[15], new LiveDataCombineUtil.Combiner16<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object>() {
+                    @Override
+                    public Object combine(Object t1, Object t2, Object t3, Object t4, Object t5, Object t6, Object t7, Object t8, Object t9, Object t10, Object t11, Object t12, Object t13, Object t14, Object t15, Object t16) {
+                        return t1;
+                    }
+                });
+            default:
+                throw new IllegalArgumentException("Unsupported arity: " + arity);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava.benchmark;
+
+import javax.annotation.Nonnull;
+
+import androidx.arch.core.executor.ArchTaskExecutor;
+import androidx.arch.core.executor.TaskExecutor;
+
+/**
+ * Stand-in for the Android main thread: the benchmark thread is treated as the main thread, and posted tasks run immediately.
+ */
+final class JvmMainThread {
+    private JvmMainThread() {
+    }
+
+    private static final TaskExecutor TASK_EXECUTOR = new TaskExecutor() {
+        @Override
+        public void executeOnDiskIO(@Nonnull Runnable runnable) {
+            runnable.run();
+        }
+
+        @Override
+        public void postToMainThread(@Nonnull Runnable runnable) {
+            runnable.run();
+        }
+
+        @Override
+        public boolean isMainThread() {
+            return true;
+        }
+    };
+
+    static void install() {
+        ArchTaskExecutor.getInstance().setDelegate(TASK_EXECUTOR);
+    }
+
+    static void uninstall() {
+        ArchTaskExecutor.getInstance().setDelegate(null);
+    }
+}
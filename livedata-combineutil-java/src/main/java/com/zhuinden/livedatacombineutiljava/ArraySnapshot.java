@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A read-only view over the latest values of the sources of {@link LiveDataCombineUtil#combineArraySnapshot(androidx.lifecycle.LiveData[])}.
+ *
+ * The same instance is emitted on every change, and its content is only valid until the next emission. Use {@link #copy()} to retain the values.
+ *
+ * The snapshot is a view over the latest values of the sources, so its content can change before the next emission:
+ * when the combined LiveData is batched, or its evaluation is deferred until its inputs are settled, it changes as soon as a source changes, before the emission;
+ * when an inactive combined LiveData becomes active again, it changes while the sources are plugged back in, before the single emission that follows.
+ */
+public final class ArraySnapshot extends AbstractList<Object> implements RandomAccess {
+    private final Object[] values;
+
+    ArraySnapshot(@Nonnull Object[] values) {
+        this.values = values;
+    }
+
+    @Nullable
+    @Override
+    public Object get(int index) {
+        if(index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+        }
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Creates an immutable copy of the current values, which is not affected by later emissions.
+     *
+     * @return the copy
+     */
+    @Nonnull
+    public List<Object> copy() {
+        return Collections.unmodifiableList(Arrays.asList(values.clone()));
+    }
+}
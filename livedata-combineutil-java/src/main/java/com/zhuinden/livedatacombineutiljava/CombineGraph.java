@@ -0,0 +1,960 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * A graph of combiners that is declared up front, and compiled into a flat evaluation plan.
+ *
+ * Only the source LiveData are observed, and only the nodes marked as outputs are exposed as LiveData.
+ * When a source changes, the dirty nodes are evaluated in a single pass in declaration order, so every node is evaluated at most once, after its inputs.
+ * A node whose combiner returns the same instance as before does not re-evaluate its dependents, and is not emitted again.
+ *
+ * The graph must be built and used on the main thread.
+ */
+public final class CombineGraph {
+    /**
+     * A node of a {@link CombineGraph}, either a source LiveData or a combiner.
+     *
+     * @param <T> the type of the value of the node
+     */
+    public static final class Node<T> {
+        private final Builder builder;
+        private final int index;
+
+        Node(@Nonnull Builder builder, int index) {
+            this.builder = builder;
+            this.index = index;
+        }
+    }
+
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private final List<LiveData<?>> sources = new ArrayList<>();
+        private final Map<LiveData<?>, Node<?>> sourceNodes = new IdentityHashMap<>();
+
+        private final List<int[]> inputs = new ArrayList<>();
+        private final List<CombinedLiveData.Evaluator<?>> evaluators = new ArrayList<>();
+        private final List<Node<?>> outputs = new ArrayList<>();
+
+        private boolean built;
+
+        Builder() {
+        }
+
+        /**
+         * Adds a source LiveData to the graph. Adding the same LiveData again returns the same node.
+         */
+        @Nonnull
+        @SuppressWarnings("unchecked")
+        public <T> Node<T> source(@Nonnull LiveData<T> liveData) {
+            if(liveData == null) {
+                throw new NullPointerException("liveData should not be null");
+            }
+            checkNotBuilt();
+
+            final Node<?> existing = sourceNodes.get(liveData);
+            if(existing != null) {
+                return (Node<T>) existing;
+            }
+
+            final Node<T> node = new Node<>(this, inputs.size());
+            sources.add(liveData);
+            inputs.add(null);
+            evaluators.add(null);
+            sourceNodes.put(liveData, node);
+            return node;
+        }
+
+        @Nonnull
+        public <T1, T2, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final LiveDataCombineUtil.Combiner2<T1, T2, R> combiner2) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(combiner2 == null) {
+                throw new NullPointerException("combiner2 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner2));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final LiveDataCombineUtil.Combiner3<T1, T2, T3, R> combiner3) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(combiner3 == null) {
+                throw new NullPointerException("combiner3 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner3));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final LiveDataCombineUtil.Combiner4<T1, T2, T3, T4, R> combiner4) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(combiner4 == null) {
+                throw new NullPointerException("combiner4 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner4));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final LiveDataCombineUtil.Combiner5<T1, T2, T3, T4, T5, R> combiner5) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(combiner5 == null) {
+                throw new NullPointerException("combiner5 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner5));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final LiveDataCombineUtil.Combiner6<T1, T2, T3, T4, T5, T6, R> combiner6) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(combiner6 == null) {
+                throw new NullPointerException("combiner6 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner6));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final LiveDataCombineUtil.Combiner7<T1, T2, T3, T4, T5, T6, T7, R> combiner7) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(combiner7 == null) {
+                throw new NullPointerException("combiner7 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner7));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final LiveDataCombineUtil.Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner8) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(combiner8 == null) {
+                throw new NullPointerException("combiner8 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner8));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final LiveDataCombineUtil.Combiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner9) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(combiner9 == null) {
+                throw new NullPointerException("combiner9 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner9));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final LiveDataCombineUtil.Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner10) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(combiner10 == null) {
+                throw new NullPointerException("combiner10 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner10));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final Node<T11> f11, @Nonnull final LiveDataCombineUtil.Combiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner11) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(f11 == null) {
+                throw new NullPointerException("f11 should not be null");
+            }
+            if(combiner11 == null) {
+                throw new NullPointerException("combiner11 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner11));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final Node<T11> f11, @Nonnull final Node<T12> f12, @Nonnull final LiveDataCombineUtil.Combiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner12) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(f11 == null) {
+                throw new NullPointerException("f11 should not be null");
+            }
+            if(f12 == null) {
+                throw new NullPointerException("f12 should not be null");
+            }
+            if(combiner12 == null) {
+                throw new NullPointerException("combiner12 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner12));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final Node<T11> f11, @Nonnull final Node<T12> f12, @Nonnull final Node<T13> f13, @Nonnull final LiveDataCombineUtil.Combiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner13) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(f11 == null) {
+                throw new NullPointerException("f11 should not be null");
+            }
+            if(f12 == null) {
+                throw new NullPointerException("f12 should not be null");
+            }
+            if(f13 == null) {
+                throw new NullPointerException("f13 should not be null");
+            }
+            if(combiner13 == null) {
+                throw new NullPointerException("combiner13 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner13));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final Node<T11> f11, @Nonnull final Node<T12> f12, @Nonnull final Node<T13> f13, @Nonnull final Node<T14> f14, @Nonnull final LiveDataCombineUtil.Combiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner14) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(f11 == null) {
+                throw new NullPointerException("f11 should not be null");
+            }
+            if(f12 == null) {
+                throw new NullPointerException("f12 should not be null");
+            }
+            if(f13 == null) {
+                throw new NullPointerException("f13 should not be null");
+            }
+            if(f14 == null) {
+                throw new NullPointerException("f14 should not be null");
+            }
+            if(combiner14 == null) {
+                throw new NullPointerException("combiner14 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner14));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final Node<T11> f11, @Nonnull final Node<T12> f12, @Nonnull final Node<T13> f13, @Nonnull final Node<T14> f14, @Nonnull final Node<T15> f15, @Nonnull final LiveDataCombineUtil.Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner15) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(f11 == null) {
+                throw new NullPointerException("f11 should not be null");
+            }
+            if(f12 == null) {
+                throw new NullPointerException("f12 should not be null");
+            }
+            if(f13 == null) {
+                throw new NullPointerException("f13 should not be null");
+            }
+            if(f14 == null) {
+                throw new NullPointerException("f14 should not be null");
+            }
+            if(f15 == null) {
+                throw new NullPointerException("f15 should not be null");
+            }
+            if(combiner15 == null) {
+                throw new NullPointerException("combiner15 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner15));
+        }
+
+        @Nonnull
+        public <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> Node<R> combine(@Nonnull final Node<T1> f1, @Nonnull final Node<T2> f2, @Nonnull final Node<T3> f3, @Nonnull final Node<T4> f4, @Nonnull final Node<T5> f5, @Nonnull final Node<T6> f6, @Nonnull final Node<T7> f7, @Nonnull final Node<T8> f8, @Nonnull final Node<T9> f9, @Nonnull final Node<T10> f10, @Nonnull final Node<T11> f11, @Nonnull final Node<T12> f12, @Nonnull final Node<T13> f13, @Nonnull final Node<T14> f14, @Nonnull final Node<T15> f15, @Nonnull final Node<T16> f16, @Nonnull final LiveDataCombineUtil.Combiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner16) {
+            if(f1 == null) {
+                throw new NullPointerException("f1 should not be null");
+            }
+            if(f2 == null) {
+                throw new NullPointerException("f2 should not be null");
+            }
+            if(f3 == null) {
+                throw new NullPointerException("f3 should not be null");
+            }
+            if(f4 == null) {
+                throw new NullPointerException("f4 should not be null");
+            }
+            if(f5 == null) {
+                throw new NullPointerException("f5 should not be null");
+            }
+            if(f6 == null) {
+                throw new NullPointerException("f6 should not be null");
+            }
+            if(f7 == null) {
+                throw new NullPointerException("f7 should not be null");
+            }
+            if(f8 == null) {
+                throw new NullPointerException("f8 should not be null");
+            }
+            if(f9 == null) {
+                throw new NullPointerException("f9 should not be null");
+            }
+            if(f10 == null) {
+                throw new NullPointerException("f10 should not be null");
+            }
+            if(f11 == null) {
+                throw new NullPointerException("f11 should not be null");
+            }
+            if(f12 == null) {
+                throw new NullPointerException("f12 should not be null");
+            }
+            if(f13 == null) {
+                throw new NullPointerException("f13 should not be null");
+            }
+            if(f14 == null) {
+                throw new NullPointerException("f14 should not be null");
+            }
+            if(f15 == null) {
+                throw new NullPointerException("f15 should not be null");
+            }
+            if(f16 == null) {
+                throw new NullPointerException("f16 should not be null");
+            }
+            if(combiner16 == null) {
+                throw new NullPointerException("combiner16 should not be null");
+            }
+
+            return addNode(new Node<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16}, new LiveDataCombineUtil.CombinerEvaluator<R>(combiner16));
+        }
+
+        @Nonnull
+        public <R> Node<R> combineArray(@Nonnull final LiveDataCombineUtil.ArrayCombiner<R> combiner, @Nonnull final Node<?>... nodes) {
+            if(combiner == null) {
+                throw new NullPointerException("combiner should not be null");
+            }
+            for(int i = 0; i < nodes.length; i++) {
+                final Node<?> node = nodes[i];
+
+                if(node == null) {
+                    throw new NullPointerException("node[" + i + "] should not be null!");
+                }
+            }
+
+            return addNode(nodes.clone(), new CombinedLiveData.Evaluator<R>() {
+                @Override
+                public R evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult) {
+                    return combiner.combine(values.clone());
+                }
+            });
+        }
+
+        /**
+         * Marks the node as an output, so that it can be observed with {@link CombineGraph#getOutput(Node)}.
+         *
+         * @return the node
+         * @throws IllegalArgumentException if the node is a source
+         */
+        @Nonnull
+        public <T> Node<T> output(@Nonnull Node<T> node) {
+            checkNode(node);
+            if(inputs.get(node.index) == null) {
+                throw new IllegalArgumentException("A source cannot be an output, observe the source LiveData instead");
+            }
+            if(!outputs.contains(node)) {
+                outputs.add(node);
+            }
+            return node;
+        }
+
+        /**
+         * Compiles the graph, and evaluates every node once with the current values of the sources.
+         */
+        @Nonnull
+        public CombineGraph build() {
+            checkNotBuilt();
+            built = true;
+            return new CombineGraph(this);
+        }
+
+        private <R> Node<R> addNode(@Nonnull Node<?>[] nodes, @Nonnull CombinedLiveData.Evaluator<R> evaluator) {
+            checkNotBuilt();
+            final int[] nodeInputs = new int[nodes.length];
+            for(int i = 0; i < nodes.length; i++) {
+                checkNode(nodes[i]);
+                nodeInputs[i] = nodes[i].index;
+            }
+
+            final Node<R> node = new Node<>(this, inputs.size());
+            inputs.add(nodeInputs);
+            evaluators.add(evaluator);
+            return node;
+        }
+
+        private void checkNode(@Nonnull Node<?> node) {
+            if(node == null) {
+                throw new NullPointerException("node should not be null");
+            }
+            if(node.builder != this) {
+                throw new IllegalArgumentException("The node does not belong to this graph");
+            }
+        }
+
+        private void checkNotBuilt() {
+            if(built) {
+                throw new IllegalStateException("The graph is already built");
+            }
+        }
+    }
+
+    private final Builder builder;
+
+    // the evaluation plan, indexed by node. Nodes are declared after their inputs, so the index order is a topological order.
+    private final int nodeCount;
+    private final Object[] values;
+    private final int[][] inputs;
+    private final int[][] dependents;
+    private final CombinedLiveData.Evaluator<Object>[] evaluators;
+    private final Object[][] arguments;
+    private final Output<?>[] outputs;
+
+    private final boolean[] dirty;
+    private int firstDirty;
+
+    private final LiveData<?>[] sources;
+    private final int[] sourceIndices;
+    private final SourceObserver[] sourceObservers;
+
+    private int activeOutputCount;
+    private boolean activating;
+    private boolean propagating;
+
+    // the dirty nodes are evaluated once the transaction is committed, see LiveDataCombineUtil#transaction(Runnable)
+    private boolean propagationPending;
+    private final Propagation.PendingEmission pendingPropagation = new Propagation.PendingEmission() {
+        @Override
+        public void emit() {
+            propagationPending = false;
+            propagate();
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private CombineGraph(@Nonnull Builder builder) {
+        this.builder = builder;
+
+        nodeCount = builder.inputs.size();
+        values = new Object[nodeCount];
+        inputs = builder.inputs.toArray(new int[nodeCount][]);
+        evaluators = (CombinedLiveData.Evaluator<Object>[]) builder.evaluators.toArray(new CombinedLiveData.Evaluator<?>[nodeCount]);
+        arguments = new Object[nodeCount][];
+        outputs = new Output<?>[nodeCount];
+        dirty = new boolean[nodeCount];
+
+        // a node can use the same input multiple times, but it is only listed once as its dependent
+        final int[] dependentCounts = new int[nodeCount];
+        final int[] lastDependent = new int[nodeCount];
+        Arrays.fill(lastDependent, -1);
+        for(int i = 0; i < nodeCount; i++) {
+            if(inputs[i] != null) {
+                arguments[i] = new Object[inputs[i].length];
+                for(int input : inputs[i]) {
+                    if(lastDependent[input] != i) {
+                        lastDependent[input] = i;
+                        dependentCounts[input]++;
+                    }
+                }
+            }
+        }
+        dependents = new int[nodeCount][];
+        for(int i = 0; i < nodeCount; i++) {
+            dependents[i] = new int[dependentCounts[i]];
+            dependentCounts[i] = 0;
+        }
+        for(int i = 0; i < nodeCount; i++) {
+            if(inputs[i] != null) {
+                for(int input : inputs[i]) {
+                    if(dependentCounts[input] == 0 || dependents[input][dependentCounts[input] - 1] != i) {
+                        dependents[input][dependentCounts[input]++] = i;
+                    }
+                }
+            }
+        }
+
+        final int sourceCount = builder.sources.size();
+        sources = builder.sources.toArray(new LiveData<?>[sourceCount]);
+        sourceIndices = new int[sourceCount];
+        sourceObservers = new SourceObserver[sourceCount];
+        for(int i = 0; i < sourceCount; i++) {
+            final int index = builder.sourceNodes.get(sources[i]).index;
+            sourceIndices[i] = index;
+            sourceObservers[i] = new SourceObserver(index);
+            values[index] = sources[i].getValue();
+        }
+
+        for(int i = 0; i < nodeCount; i++) {
+            if(inputs[i] != null) {
+                values[i] = evaluate(i);
+            }
+        }
+        firstDirty = nodeCount;
+
+        for(Node<?> node : builder.outputs) {
+            outputs[node.index] = new Output<>(this, values[node.index]);
+        }
+    }
+
+    /**
+     * Returns the LiveData of a node that was marked with {@link Builder#output(Node)}.
+     *
+     * @throws IllegalArgumentException if the node is not an output of this graph
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> LiveData<T> getOutput(@Nonnull Node<T> node) {
+        if(node == null) {
+            throw new NullPointerException("node should not be null");
+        }
+        if(node.builder != builder || outputs[node.index] == null) {
+            throw new IllegalArgumentException("The node is not an output of this graph");
+        }
+        return (LiveData<T>) outputs[node.index];
+    }
+
+    private Object evaluate(int index) {
+        final int[] nodeInputs = inputs[index];
+        final Object[] nodeArguments = arguments[index];
+        for(int i = 0; i < nodeInputs.length; i++) {
+            nodeArguments[i] = values[nodeInputs[i]];
+        }
+        return evaluators[index].evaluate(nodeArguments, LiveDataCombineUtil.FULL_RECOMPUTE, null, values[index]);
+    }
+
+    private void markDependentsDirty(int index) {
+        for(int dependent : dependents[index]) {
+            dirty[dependent] = true;
+            if(dependent < firstDirty) {
+                firstDirty = dependent;
+            }
+        }
+    }
+
+    private void propagate() {
+        if(propagating) {
+            return; // an output observer changed a source: the running pass picks it up
+        }
+        propagating = true;
+        try {
+            while(firstDirty < nodeCount) {
+                final int index = firstDirty;
+                firstDirty++;
+                if(!dirty[index]) {
+                    continue;
+                }
+                dirty[index] = false;
+
+                final Object previous = values[index];
+                final Object value = evaluate(index);
+                if(value == previous) {
+                    continue;
+                }
+                values[index] = value;
+                markDependentsDirty(index);
+                if(outputs[index] != null) {
+                    outputs[index].publish(value);
+                }
+            }
+        } finally {
+            propagating = false;
+        }
+    }
+
+    void onOutputActive() {
+        if(activeOutputCount++ > 0) {
+            return;
+        }
+        // observing the sources re-delivers their values one by one, but the graph is only evaluated once afterwards
+        activating = true;
+        try {
+            for(int i = 0; i < sources.length; i++) {
+                observe(sources[i], sourceObservers[i]);
+            }
+        } finally {
+            activating = false;
+        }
+        propagate();
+    }
+
+    void onOutputInactive() {
+        if(--activeOutputCount > 0) {
+            return;
+        }
+        for(int i = 0; i < sources.length; i++) {
+            sources[i].removeObserver(sourceObservers[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void observe(@Nonnull LiveData<?> source, @Nonnull Observer<Object> observer) {
+        ((LiveData<Object>) source).observeForever(observer);
+    }
+
+    private final class SourceObserver implements Observer<Object> {
+        private final int index;
+
+        SourceObserver(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void onChanged(@Nullable Object value) {
+            final Object previousValue = values[index];
+            values[index] = value;
+            if(activating && previousValue == value) {
+                return; // the value that was already read when the graph was built, or when it was last active
+            }
+            markDependentsDirty(index);
+            if(activating) {
+                return;
+            }
+            if(Propagation.isInTransaction()) {
+                if(!propagationPending) {
+                    propagationPending = true;
+                    Propagation.deferEmission(pendingPropagation);
+                }
+                return;
+            }
+            propagate();
+        }
+    }
+
+    private static final class Output<T> extends LiveData<T> {
+        private final CombineGraph graph;
+
+        Output(@Nonnull CombineGraph graph, @Nullable Object value) {
+            this.graph = graph;
+            publish(value);
+        }
+
+        @SuppressWarnings("unchecked")
+        void publish(@Nullable Object value) {
+            setValue((T) value);
+        }
+
+        @Override
+        protected void onActive() {
+            graph.onOutputActive();
+        }
+
+        @Override
+        protected void onInactive() {
+            graph.onOutputInactive();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An opt-in global listener for the work done by the combined LiveData created by {@link LiveDataCombineUtil}.
+ *
+ * While no listener is installed, the combined LiveData only check a static field, and do not measure anything.
+ * The listener is installed at runtime rather than through a static final flag, so that it can be toggled without rebuilding,
+ * for example from a debug menu. The check is a volatile read, which costs about as much as a plain read on the main thread.
+ * The listener can be installed or uninstalled from any thread, and it is called on the main thread.
+ */
+public final class CombineMetrics {
+    /**
+     * Receives the metrics of the combined LiveData. The name is the one set with {@link CombinedLiveData#named(String)}, or null.
+     */
+    public interface Listener {
+        /**
+         * Called after the combiner was invoked. The time of asynchronous combiners is measured on the executor, but reported on the main thread.
+         */
+        void onEvaluated(@Nullable String name, long combinerTimeNanos);
+
+        /**
+         * Called when the combiner was not invoked, because the changed source value was equal to its previous value, see {@link CombinedLiveData#distinctInputs()}.
+         */
+        void onInputSkipped(@Nullable String name);
+
+        /**
+         * Called when the combined value was not emitted, because it was equal to the previous one, see {@link CombinedLiveData#distinctUntilChanged()}.
+         */
+        void onEmissionDeduplicated(@Nullable String name);
+
+        /**
+         * Called after the combined value was emitted, with the time it took to dispatch it to the observers.
+         */
+        void onDispatched(@Nullable String name, long dispatchTimeNanos);
+    }
+
+    // read on every evaluation, null while disabled. Volatile, as install() and uninstall() can be called from any thread.
+    static volatile Listener listener;
+
+    private static volatile int sampleRate = 1;
+    private static int sampleCounter; // only accessed on the main thread
+
+    private CombineMetrics() {
+    }
+
+    /**
+     * Installs the listener, which receives every event.
+     */
+    public static void install(@Nonnull Listener listener) {
+        install(listener, 1);
+    }
+
+    /**
+     * Installs the listener, which only receives one in every sampleRate events.
+     *
+     * @param listener   the listener
+     * @param sampleRate reports one event in every sampleRate
+     */
+    public static void install(@Nonnull Listener listener, int sampleRate) {
+        if(listener == null) {
+            throw new NullPointerException("listener should not be null");
+        }
+        if(sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate should be at least 1, but was " + sampleRate);
+        }
+        CombineMetrics.sampleRate = sampleRate; // written before the listener, which publishes it
+        CombineMetrics.listener = listener;
+    }
+
+    public static void uninstall() {
+        listener = null;
+    }
+
+    /**
+     * Returns the listener if it is installed and the current event is sampled, null otherwise.
+     */
+    @Nullable
+    static Listener sample() {
+        final Listener listener = CombineMetrics.listener;
+        if(listener == null) {
+            return null;
+        }
+        final int sampleRate = CombineMetrics.sampleRate;
+        if(sampleRate > 1) {
+            if(++sampleCounter < sampleRate) {
+                return null;
+            }
+            sampleCounter = 0;
+        }
+        return listener;
+    }
+}
@@ -0,0 +1,947 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import androidx.arch.core.executor.ArchTaskExecutor;
+import androidx.arch.core.util.Function;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * The LiveData returned by {@link LiveDataCombineUtil}, which re-evaluates its combiner whenever one of its sources changes.
+ *
+ * @param <R> the type of the combined value
+ */
+public class CombinedLiveData<R> extends MediatorLiveData<R> {
+    /**
+     * Computes the combined value from the latest values of the sources.
+     *
+     * @param <R> the type of the combined value
+     */
+    interface Evaluator<R> {
+        /**
+         * @param values         the latest value of each source, indexed by source position. Must not be retained or modified.
+         * @param changedIndex   the index of the source that changed, or {@link LiveDataCombineUtil#FULL_RECOMPUTE}
+         * @param previousValue  the previous value of the changed source, or null if changedIndex is {@link LiveDataCombineUtil#FULL_RECOMPUTE}
+         * @param previousResult the previously emitted combined value
+         * @return the combined value
+         */
+        @Nullable
+        R evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    /**
+     * An evaluator whose result only depends on the values of the sources, which makes it possible to memoize it.
+     *
+     * @param <R> the type of the combined value
+     */
+    interface PureEvaluator<R> extends Evaluator<R> {
+    }
+
+    private static final String SNAPSHOT_NOT_COMPARABLE = "combineArraySnapshot always emits the same ArraySnapshot instance, use distinctInputs() or compare ArraySnapshot.copy() instead";
+
+    private static final Observer<Object> IGNORED = new Observer<Object>() {
+        @Override
+        public void onChanged(@Nullable Object value) {
+        }
+    };
+
+    private final LiveData<?>[] sources;
+    private final Object[] values;
+    private final Evaluator<Object> evaluator;
+
+    // the operators fused into this node, see map(), filter(), distinct() and switchMap()
+    private final Stage[] stages;
+    private final Object[] stageStates;
+    // a switchMap() observes its inner LiveData through its own mediator, as the inner LiveData may be one of the sources
+    private final MediatorLiveData<?>[] switchers;
+
+    // the latest value returned by the evaluator, before the operators were applied
+    private Object result;
+
+    // set by combineArraySnapshot(), whose ArraySnapshot is the same instance on every emission and always equals itself
+    boolean emitsSnapshots;
+
+    private boolean fused;
+
+    // one observer per distinct source, the observers of duplicated sources are chained to it
+    private final List<SlotObserver> sourceObservers;
+
+    private Runnable dispatchRunnable;
+
+    // 1 + the depth of the deepest combined source, used to evaluate pending changes in dependency order
+    final int depth;
+    boolean scheduled;
+    boolean deferred;
+
+    private int settledCheck;
+    private boolean settled;
+
+    private boolean batched;
+    private boolean multiplexed;
+    private boolean batchPosted;
+    private boolean dirty;
+    private int pendingChangedIndex = LiveDataCombineUtil.FULL_RECOMPUTE;
+    private Object pendingPreviousValue;
+
+    private LiveDataCombineUtil.Equality<Object> inputEquality;
+    private LiveDataCombineUtil.Equality<? super R> outputEquality;
+
+    private boolean hasValue;
+    private boolean initialized;
+
+    private boolean activating;
+    private boolean activatedBefore;
+    private boolean changedWhileActivating;
+
+    private CombinerCache cache;
+
+    private String name;
+    // captured while a SlowCombinerPolicy is installed
+    private Throwable creationSite;
+    // the metrics listener while a sampled evaluation is being published
+    private CombineMetrics.Listener sampledMetrics;
+
+    private Executor executor;
+    private FutureTask<Void> asyncTask;
+    private int asyncGeneration;
+    private boolean asyncPending;
+
+    CombinedLiveData(@Nonnull LiveData<?>[] sources, @Nonnull Evaluator<R> evaluator) {
+        this(sources, readValues(sources), evaluator, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CombinedLiveData(@Nonnull LiveData<?>[] sources, @Nonnull Object[] values, @Nonnull Evaluator<?> evaluator, @Nullable Stage[] stages) {
+        this.sources = sources;
+        this.values = values;
+        this.evaluator = (Evaluator<Object>) evaluator;
+        this.stages = stages;
+        this.stageStates = stages != null ? new Object[stages.length] : null;
+        this.switchers = stages != null ? new MediatorLiveData<?>[stages.length] : null;
+        if(stages != null) {
+            for(int i = 0; i < stages.length; i++) {
+                stageStates[i] = stages[i].type == Stage.DISTINCT ? Stage.NOT_SET : null;
+            }
+        }
+
+        final Map<LiveData<?>, SlotObserver> slotObservers = new IdentityHashMap<>(sources.length);
+
+        int maxSourceDepth = 0;
+
+        for(int i = 0; i < sources.length; i++) {
+            final LiveData<?> source = sources[i];
+
+            if(source instanceof CombinedLiveData) {
+                maxSourceDepth = Math.max(maxSourceDepth, ((CombinedLiveData<?>) source).depth);
+            }
+
+            final SlotObserver slotObserver = new SlotObserver(i, source);
+            final SlotObserver previous = slotObservers.get(source);
+            if(previous != null) {
+                slotObserver.next = previous.next;
+                previous.next = slotObserver;
+            } else {
+                slotObservers.put(source, slotObserver);
+                addSource(source, slotObserver);
+            }
+        }
+
+        this.sourceObservers = new ArrayList<>(slotObservers.values());
+        this.depth = maxSourceDepth + 1;
+
+        if(SlowCombinerPolicy.installed != null) {
+            this.creationSite = new Throwable("The combined LiveData was created here");
+        }
+    }
+
+    private static Object[] readValues(@Nonnull LiveData<?>[] sources) {
+        final Object[] values = new Object[sources.length];
+        for(int i = 0; i < sources.length; i++) {
+            values[i] = sources[i].getValue();
+        }
+        return values;
+    }
+
+    void setExecutor(@Nonnull Executor executor) {
+        this.executor = executor;
+    }
+
+    void initialize() {
+        initialized = true;
+        evaluate(LiveDataCombineUtil.FULL_RECOMPUTE, null);
+    }
+
+    /**
+     * Returns the current combined value. If the combiner was not yet evaluated (see {@link LiveDataCombineUtil#combineLazy(LiveData, LiveData, LiveDataCombineUtil.Combiner2)}),
+     * it is evaluated first when called on the main thread.
+     */
+    @Nullable
+    @Override
+    public R getValue() {
+        if(!initialized && ArchTaskExecutor.getInstance().isMainThread()) {
+            for(int i = 0; i < sources.length; i++) {
+                values[i] = sources[i].getValue();
+            }
+            initialize();
+        }
+        return super.getValue();
+    }
+
+    @Nullable
+    R currentValue() {
+        return super.getValue();
+    }
+
+    /**
+     * Enables batched mode: when multiple sources change within the same main thread cycle, the combiner is only invoked once, after all changes were received.
+     *
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> batched() {
+        if(dispatchRunnable == null) {
+            dispatchRunnable = new Runnable() {
+                @Override
+                public void run() {
+                    batchPosted = false;
+                    if(dirty) {
+                        Propagation.schedule(CombinedLiveData.this);
+                        Propagation.flush();
+                    }
+                }
+            };
+        }
+        this.batched = true;
+        return this;
+    }
+
+    public boolean isBatched() {
+        return batched;
+    }
+
+    /**
+     * Enables multiplexed mode: instead of each combined LiveData observing its sources separately,
+     * every source that is shared by multiplexed combined LiveData is observed only once, and its values are fanned out to them.
+     *
+     * Useful when a single source feeds a large number of combined LiveData.
+     *
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> multiplexed() {
+        if(multiplexed) {
+            return this;
+        }
+        multiplexed = true;
+        for(SlotObserver slotObserver : sourceObservers) {
+            removeSource(slotObserver.source);
+        }
+        if(hasActiveObservers()) {
+            registerMultiplexed();
+        }
+        return this;
+    }
+
+    public boolean isMultiplexed() {
+        return multiplexed;
+    }
+
+    private void registerMultiplexed() {
+        for(SlotObserver slotObserver : sourceObservers) {
+            SourceMultiplexer.register(slotObserver.source, slotObserver);
+        }
+        // a shared source that is already observed does not re-deliver its value, so the changes since the last activation are picked up here
+        for(SlotObserver slotObserver : sourceObservers) {
+            final Object value = SourceMultiplexer.getValue(slotObserver.source);
+            if(value != SourceMultiplexer.NO_VALUE && value != values[slotObserver.index]) {
+                slotObserver.onChanged(value);
+            }
+        }
+    }
+
+    /**
+     * Skips re-evaluating the combiner when a source emits a value that is the same instance as its previous value, for example when the sources are re-plugged on activation.
+     *
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> distinctInputs() {
+        return distinctInputs(LiveDataCombineUtil.byIdentity());
+    }
+
+    /**
+     * Skips re-evaluating the combiner when a source emits a value that is equal to its previous value according to the provided equality.
+     *
+     * @param inputEquality the equality used to compare the previous and the new value of a source
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> distinctInputs(@Nonnull LiveDataCombineUtil.Equality<Object> inputEquality) {
+        if(inputEquality == null) {
+            throw new NullPointerException("inputEquality should not be null");
+        }
+        this.inputEquality = inputEquality;
+        return this;
+    }
+
+    /**
+     * Caches the combined values of the most recently used combinations of source values, compared with {@link Object#equals(Object)} and {@link Object#hashCode()},
+     * so that the combiner is not invoked again when the sources return to a previous combination. Only for combiners without side effects.
+     *
+     * @param maxSize the maximum number of cached combinations
+     * @return this combined LiveData
+     * @throws UnsupportedOperationException if the combined value is computed incrementally
+     */
+    @Nonnull
+    public CombinedLiveData<R> memoized(int maxSize) {
+        return memoize(maxSize, false);
+    }
+
+    /**
+     * Caches the combined values like {@link #memoized(int)}, but compares the source values by identity.
+     *
+     * @param maxSize the maximum number of cached combinations
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> memoizedByIdentity(int maxSize) {
+        return memoize(maxSize, true);
+    }
+
+    private CombinedLiveData<R> memoize(int maxSize, boolean byIdentity) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException("maxSize should be at least 1, but was " + maxSize);
+        }
+        if(!(evaluator instanceof PureEvaluator)) {
+            throw new UnsupportedOperationException("Only combiners that compute the combined value from the source values alone can be memoized");
+        }
+        this.cache = new CombinerCache(maxSize, byIdentity);
+        return this;
+    }
+
+    /**
+     * Returns the cache enabled by {@link #memoized(int)}, for example to read its hit and miss counts, or null if it is not enabled.
+     */
+    @Nullable
+    public CombinerCache getCombinerCache() {
+        return cache;
+    }
+
+    /**
+     * Sets the name of this combined LiveData, which is reported to the {@link CombineMetrics.Listener}.
+     *
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> named(@Nullable String name) {
+        this.name = name;
+        return this;
+    }
+
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Does not emit the combined value if it is equal to the previously emitted value according to {@link Object#equals(Object)}.
+     *
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> distinctUntilChanged() {
+        return distinctUntilChanged(LiveDataCombineUtil.byEquals());
+    }
+
+    /**
+     * Does not emit the combined value if it is equal to the previously emitted value according to the provided equality.
+     *
+     * @param outputEquality the equality used to compare the previous and the new combined value
+     * @return this combined LiveData
+     */
+    @Nonnull
+    public CombinedLiveData<R> distinctUntilChanged(@Nonnull LiveDataCombineUtil.Equality<? super R> outputEquality) {
+        if(outputEquality == null) {
+            throw new NullPointerException("outputEquality should not be null");
+        }
+        if(emitsSnapshots) {
+            throw new UnsupportedOperationException(SNAPSHOT_NOT_COMPARABLE);
+        }
+        this.outputEquality = outputEquality;
+        return this;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * A node is settled when none of its sources, including the combined LiveData it depends on indirectly, have a change that was not yet delivered to it.
+     * Evaluating a node that is not settled would combine fresh values with stale ones.
+     */
+    boolean isSettled() {
+        return isSettled(Propagation.nextSettledCheck());
+    }
+
+    private boolean isSettled(int check) {
+        if(settledCheck == check) {
+            return settled; // shared upstream nodes of diamonds are only checked once
+        }
+        settledCheck = check;
+        settled = true;
+        for(SlotObserver slotObserver : sourceObservers) {
+            final LiveData<?> source = slotObserver.source;
+            final Object value;
+            if(source instanceof CombinedLiveData) {
+                final CombinedLiveData<?> combinedSource = (CombinedLiveData<?>) source;
+                if(combinedSource.dirty || !combinedSource.isSettled(check)) {
+                    settled = false;
+                    break;
+                }
+                value = combinedSource.currentValue();
+            } else {
+                value = source.getValue();
+            }
+            if(value != values[slotObserver.index]) {
+                settled = false; // the source is still dispatching its new value
+                break;
+            }
+        }
+        return settled;
+    }
+
+    void evaluatePending() {
+        if(dirty) {
+            final int changedIndex = pendingChangedIndex;
+            final Object previousValue = pendingPreviousValue;
+            dirty = false;
+            pendingChangedIndex = LiveDataCombineUtil.FULL_RECOMPUTE;
+            pendingPreviousValue = null;
+            evaluate(changedIndex, previousValue);
+        }
+    }
+
+    void evaluate(int changedIndex, @Nullable Object previousValue) {
+        if(cache != null) {
+            final Object cachedResult = cache.get(values);
+            if(cachedResult != CombinerCache.NOT_FOUND) {
+                if(asyncTask != null) {
+                    asyncTask.cancel(true);
+                    asyncTask = null;
+                    asyncGeneration++;
+                }
+                onResult(cachedResult);
+                return;
+            }
+        }
+        if(executor != null) {
+            evaluateAsync();
+            return;
+        }
+        final CombineMetrics.Listener metrics = CombineMetrics.listener != null ? CombineMetrics.sample() : null;
+        final SlowCombinerPolicy policy = SlowCombinerPolicy.installed;
+        if(metrics == null && policy == null) {
+            final Object result = evaluator.evaluate(values, changedIndex, previousValue, this.result);
+            if(cache != null) {
+                cache.put(values, result);
+            }
+            onResult(result);
+            return;
+        }
+
+        final long startTime = System.nanoTime();
+        final Object result = evaluator.evaluate(values, changedIndex, previousValue, this.result);
+        final long combinerTime = System.nanoTime() - startTime;
+        if(metrics != null) {
+            metrics.onEvaluated(name, combinerTime);
+        }
+        if(policy != null && combinerTime > policy.thresholdNanos) {
+            policy.onViolation(name, combinerTime, creationSite);
+        }
+        if(cache != null) {
+            cache.put(values, result);
+        }
+        if(metrics != null) {
+            onSampledResult(metrics, result);
+        } else {
+            onResult(result);
+        }
+    }
+
+    private void onSampledResult(@Nonnull CombineMetrics.Listener metrics, @Nullable Object result) {
+        sampledMetrics = metrics;
+        try {
+            onResult(result);
+        } finally {
+            sampledMetrics = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResult(@Nullable Object result) {
+        this.result = result;
+        if(stages == null) {
+            publish((R) result);
+        } else {
+            applyStages(0, result);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyStages(int fromIndex, @Nullable Object value) {
+        for(int i = fromIndex; i < stages.length; i++) {
+            final Stage stage = stages[i];
+            switch(stage.type) {
+                case Stage.MAP:
+                    value = ((Function<Object, Object>) stage.function).apply(value);
+                    break;
+                case Stage.FILTER:
+                    if(!((LiveDataCombineUtil.Predicate<Object>) stage.function).test(value)) {
+                        return;
+                    }
+                    break;
+                case Stage.DISTINCT:
+                    if(stageStates[i] != Stage.NOT_SET && !isReusedSnapshot(stageStates[i], value) && ((LiveDataCombineUtil.Equality<Object>) stage.function).isEqual(stageStates[i], value)) {
+                        return;
+                    }
+                    stageStates[i] = value;
+                    break;
+                case Stage.SWITCH_MAP:
+                    switchTo(i, ((Function<Object, LiveData<?>>) stage.function).apply(value));
+                    return;
+                default:
+                    throw new AssertionError();
+            }
+        }
+        publish((R) value);
+    }
+
+    private void switchTo(final int stageIndex, @Nullable LiveData<?> liveData) {
+        final LiveData<?> current = (LiveData<?>) stageStates[stageIndex];
+        if(current == liveData) {
+            return;
+        }
+        MediatorLiveData<?> switcher = switchers[stageIndex];
+        if(switcher == null) {
+            // the switcher never holds a value: it only keeps the inner LiveData observed while this node is active
+            switcher = new MediatorLiveData<>();
+            switchers[stageIndex] = switcher;
+            addSource(switcher, IGNORED);
+        }
+        if(current != null) {
+            switcher.removeSource(current);
+        }
+        stageStates[stageIndex] = liveData;
+        if(liveData != null) {
+            switcher.addSource(liveData, new Observer<Object>() {
+                @Override
+                public void onChanged(@Nullable Object value) {
+                    applyStages(stageIndex + 1, value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Applies the mapper to each combined value, within the same node.
+     *
+     * Operators return a new combined LiveData that takes over the sources, the combiner and the configuration of this one,
+     * which must not be observed afterwards.
+     *
+     * @param mapper the function applied to the combined value
+     * @return the combined LiveData with the mapper applied
+     * @throws IllegalStateException if this combined LiveData is observed
+     */
+    @Nonnull
+    public <S> CombinedLiveData<S> map(@Nonnull Function<? super R, ? extends S> mapper) {
+        if(mapper == null) {
+            throw new NullPointerException("mapper should not be null");
+        }
+        return fuse(new Stage(Stage.MAP, mapper));
+    }
+
+    /**
+     * Only emits the combined values that match the predicate, see {@link #map(Function)}.
+     *
+     * @param predicate the predicate
+     * @return the combined LiveData with the filter applied
+     */
+    @Nonnull
+    public CombinedLiveData<R> filter(@Nonnull LiveDataCombineUtil.Predicate<? super R> predicate) {
+        if(predicate == null) {
+            throw new NullPointerException("predicate should not be null");
+        }
+        final CombinedLiveData<R> node = fuse(new Stage(Stage.FILTER, predicate));
+        node.outputEquality = outputEquality;
+        return node;
+    }
+
+    /**
+     * Drops the combined values that are equal to the previous value passed to the next operator according to {@link Object#equals(Object)}, see {@link #map(Function)}.
+     *
+     * @return the combined LiveData with the operator applied
+     */
+    @Nonnull
+    public CombinedLiveData<R> distinct() {
+        return distinct(LiveDataCombineUtil.byEquals());
+    }
+
+    /**
+     * Drops the combined values that are equal to the previous value passed to the next operator according to the provided equality, see {@link #map(Function)}.
+     *
+     * @param equality the equality
+     * @return the combined LiveData with the operator applied
+     */
+    @Nonnull
+    public CombinedLiveData<R> distinct(@Nonnull LiveDataCombineUtil.Equality<? super R> equality) {
+        if(equality == null) {
+            throw new NullPointerException("equality should not be null");
+        }
+        if(emitsSnapshots) {
+            throw new UnsupportedOperationException(SNAPSHOT_NOT_COMPARABLE);
+        }
+        final CombinedLiveData<R> node = fuse(new Stage(Stage.DISTINCT, equality));
+        node.outputEquality = outputEquality;
+        return node;
+    }
+
+    /**
+     * Emits the values of the LiveData returned by the mapper for the latest combined value, see {@link #map(Function)}.
+     *
+     * @param switchMapper the function that returns the LiveData to observe, or null to stop emitting
+     * @return the combined LiveData with the operator applied
+     */
+    @Nonnull
+    public <S> CombinedLiveData<S> switchMap(@Nonnull Function<? super R, ? extends LiveData<? extends S>> switchMapper) {
+        if(switchMapper == null) {
+            throw new NullPointerException("switchMapper should not be null");
+        }
+        return fuse(new Stage(Stage.SWITCH_MAP, switchMapper));
+    }
+
+    private <S> CombinedLiveData<S> fuse(@Nonnull Stage stage) {
+        if(hasObservers()) {
+            throw new IllegalStateException("Operators must be applied before the combined LiveData is observed");
+        }
+        if(fused) {
+            throw new IllegalStateException("An operator was already applied to this combined LiveData");
+        }
+        fused = true;
+
+        // an evaluation in flight would publish to this node, so it is restarted on the fused node instead
+        final boolean asyncInFlight = asyncTask != null;
+        if(asyncInFlight) {
+            asyncTask.cancel(true);
+            asyncTask = null;
+            asyncGeneration++;
+        }
+
+        final Stage[] newStages;
+        if(stages == null) {
+            newStages = new Stage[]{stage};
+        } else {
+            newStages = new Stage[stages.length + 1];
+            System.arraycopy(stages, 0, newStages, 0, stages.length);
+            newStages[stages.length] = stage;
+        }
+
+        for(SlotObserver slotObserver : sourceObservers) {
+            removeSource(slotObserver.source);
+        }
+        if(stages != null) {
+            for(int i = 0; i < stages.length; i++) {
+                if(switchers[i] != null) {
+                    removeSource(switchers[i]);
+                }
+            }
+        }
+
+        // the values and the evaluator are taken over, as the evaluator may keep state that belongs to them
+        final CombinedLiveData<S> node = new CombinedLiveData<>(sources, values, evaluator, newStages);
+        if(batched) {
+            node.batched();
+        }
+        if(multiplexed) {
+            node.multiplexed();
+        }
+        node.inputEquality = inputEquality;
+        node.cache = cache;
+        node.name = name;
+        node.creationSite = creationSite;
+        node.executor = executor;
+        // a filter() passes the snapshot on as it is, the value of a map() or a switchMap() is checked when it is compared, see isReusedSnapshot()
+        node.emitsSnapshots = emitsSnapshots && stage.type == Stage.FILTER;
+        node.asyncPending = asyncPending;
+        if(initialized) {
+            node.initialized = true;
+            if(asyncInFlight) {
+                node.evaluateAsync();
+            } else {
+                node.onResult(result);
+            }
+        }
+        return node;
+    }
+
+    // an ArraySnapshot that reaches a comparison through a map() or a switchMap() always equals itself, so it is never deduplicated.
+    // Throwing here would leave the source that is dispatching the change broken.
+    private static boolean isReusedSnapshot(@Nullable Object previous, @Nullable Object value) {
+        return previous == value && value instanceof ArraySnapshot;
+    }
+
+    private void evaluateAsync() {
+        if(asyncTask != null) {
+            asyncTask.cancel(true);
+        }
+        asyncPending = false;
+
+        final int generation = ++asyncGeneration;
+        final Object[] snapshot = values.clone();
+        final Object previousResult = result;
+        final CombineMetrics.Listener metrics = CombineMetrics.listener != null ? CombineMetrics.sample() : null;
+
+        final FutureTask<Void> task = new FutureTask<>(new Runnable() {
+            @Override
+            public void run() {
+                Object result = null;
+                Throwable error = null;
+                final long startTime = metrics != null ? System.nanoTime() : 0L;
+                try {
+                    result = evaluator.evaluate(snapshot, LiveDataCombineUtil.FULL_RECOMPUTE, null, previousResult);
+                } catch(Throwable e) {
+                    error = e;
+                }
+                final long combinerTime = metrics != null ? System.nanoTime() - startTime : 0L;
+                final Object asyncResult = result;
+                final Throwable asyncError = error;
+                ArchTaskExecutor.getInstance().postToMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if(generation != asyncGeneration) {
+                            return; // stale: newer inputs arrived, or the node became inactive
+                        }
+                        asyncTask = null;
+                        if(asyncError instanceof RuntimeException) {
+                            throw (RuntimeException) asyncError;
+                        }
+                        if(asyncError instanceof Error) {
+                            throw (Error) asyncError;
+                        }
+                        if(asyncError != null) {
+                            throw new RuntimeException(asyncError);
+                        }
+                        if(cache != null) {
+                            cache.put(snapshot, asyncResult);
+                        }
+                        if(metrics != null) {
+                            metrics.onEvaluated(name, combinerTime);
+                            onSampledResult(metrics, asyncResult);
+                        } else {
+                            onResult(asyncResult);
+                        }
+                    }
+                });
+            }
+        }, null);
+
+        asyncTask = task;
+        executor.execute(task);
+    }
+
+    @Override
+    protected void onActive() {
+        if(fused) {
+            throw new IllegalStateException("An operator was applied to this combined LiveData, observe the LiveData returned by the operator instead");
+        }
+        // plugging the sources delivers their values one by one, but the combiner is only evaluated once afterwards
+        activating = true;
+        try {
+            super.onActive();
+            if(multiplexed) {
+                registerMultiplexed();
+            }
+        } finally {
+            activating = false;
+        }
+
+        final boolean changed = changedWhileActivating || dirty;
+        changedWhileActivating = false;
+        activatedBefore = true;
+
+        if(!initialized) {
+            initialize();
+            return;
+        }
+        if(changed) {
+            dirty = false;
+            pendingChangedIndex = LiveDataCombineUtil.FULL_RECOMPUTE;
+            pendingPreviousValue = null;
+            evaluate(LiveDataCombineUtil.FULL_RECOMPUTE, null);
+            return;
+        }
+        if(asyncPending) {
+            evaluateAsync();
+        }
+    }
+
+    @Override
+    protected void onInactive() {
+        super.onInactive();
+        // a pending change that is not settled yet is evaluated on the next activation instead
+        Propagation.cancelDeferred(this);
+        if(multiplexed) {
+            for(SlotObserver slotObserver : sourceObservers) {
+                SourceMultiplexer.unregister(slotObserver.source, slotObserver);
+            }
+        }
+        if(asyncTask != null) {
+            asyncTask.cancel(true);
+            asyncTask = null;
+            asyncGeneration++;
+            asyncPending = true;
+        }
+    }
+
+    void publish(@Nullable R value) {
+        final CombineMetrics.Listener metrics = sampledMetrics;
+        if(hasValue && outputEquality != null && !isReusedSnapshot(currentValue(), value) && outputEquality.isEqual(currentValue(), value)) {
+            if(metrics != null) {
+                metrics.onEmissionDeduplicated(name);
+            }
+            return;
+        }
+        hasValue = true;
+        if(metrics == null) {
+            setValue(value);
+            return;
+        }
+        sampledMetrics = null; // evaluations of the observers are sampled on their own
+        final long startTime = System.nanoTime();
+        setValue(value);
+        metrics.onDispatched(name, System.nanoTime() - startTime);
+    }
+
+    void onSourceChanged(int changedIndex, @Nullable Object previousValue) {
+        final boolean deferring = Propagation.isDeferring();
+        if(!batched && !deferring && depth == 1) {
+            // only depends on plain LiveData, so it cannot observe a half-propagated change
+            evaluate(changedIndex, previousValue);
+            return;
+        }
+
+        if(!dirty) {
+            dirty = true;
+            pendingChangedIndex = changedIndex;
+            pendingPreviousValue = previousValue;
+        } else if(pendingChangedIndex != changedIndex) {
+            pendingChangedIndex = LiveDataCombineUtil.FULL_RECOMPUTE;
+            pendingPreviousValue = null;
+        }
+
+        if(deferring) {
+            Propagation.schedule(this);
+        } else if(batched) {
+            if(!batchPosted) {
+                batchPosted = true;
+                ArchTaskExecutor.getInstance().postToMainThread(dispatchRunnable);
+            }
+        } else {
+            Propagation.schedule(this);
+            Propagation.flush();
+        }
+    }
+
+    private static final class Stage {
+        static final int MAP = 0;
+        static final int FILTER = 1;
+        static final int DISTINCT = 2;
+        static final int SWITCH_MAP = 3;
+
+        static final Object NOT_SET = new Object();
+
+        final int type;
+        final Object function;
+
+        Stage(int type, @Nonnull Object function) {
+            this.type = type;
+            this.function = function;
+        }
+    }
+
+    private final class SlotObserver implements Observer<Object> {
+        private final int index;
+        private final LiveData<?> source;
+
+        // the same LiveData can be passed in as multiple sources, but it can only be added to the mediator once.
+        private SlotObserver next;
+
+        SlotObserver(int index, @Nonnull LiveData<?> source) {
+            this.index = index;
+            this.source = source;
+        }
+
+        @Override
+        public void onChanged(Object value) {
+            final Object previousValue = values[index];
+            values[index] = value;
+            for(SlotObserver slotObserver = next; slotObserver != null; slotObserver = slotObserver.next) {
+                values[slotObserver.index] = value;
+            }
+
+            if(!initialized) {
+                return; // lazy: evaluated once all sources are plugged in onActive()
+            }
+
+            if(inputEquality != null && inputEquality.isEqual(previousValue, value)) {
+                if(CombineMetrics.listener != null) {
+                    final CombineMetrics.Listener metrics = CombineMetrics.sample();
+                    if(metrics != null) {
+                        metrics.onInputSkipped(name);
+                    }
+                }
+                Propagation.retryDeferred(); // this node is settled now, even though it is not evaluated
+                return;
+            }
+
+            if(activating) {
+                // on the first activation, every source re-delivers the value that was already read when the node was created
+                if(activatedBefore || previousValue != value) {
+                    changedWhileActivating = true;
+                }
+                return;
+            }
+
+            if(next == null) {
+                onSourceChanged(index, previousValue);
+            } else {
+                onSourceChanged(LiveDataCombineUtil.FULL_RECOMPUTE, null);
+            }
+            Propagation.retryDeferred();
+        }
+    }
+}
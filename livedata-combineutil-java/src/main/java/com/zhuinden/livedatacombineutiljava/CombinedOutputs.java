@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * The outputs of {@link LiveDataCombineUtil#combineMulti(int, LiveDataCombineUtil.MultiCombiner, LiveData[])}.
+ *
+ * The combiner is evaluated once per change for all outputs, and each output only emits when its own value changed according to {@link Object#equals(Object)}.
+ * The sources are observed while at least one output is active.
+ */
+public final class CombinedOutputs {
+    private final CombinedLiveData<Object[]> combined;
+    private final Output[] outputs;
+
+    private int activeOutputCount;
+
+    private final Observer<Object[]> distributor = new Observer<Object[]>() {
+        @Override
+        public void onChanged(@Nullable Object[] values) {
+            if(values != null) {
+                publish(values);
+            }
+        }
+    };
+
+    CombinedOutputs(@Nonnull CombinedLiveData<Object[]> combined, int outputCount) {
+        this.combined = combined;
+        this.outputs = new Output[outputCount];
+        for(int i = 0; i < outputCount; i++) {
+            outputs[i] = new Output(this);
+        }
+        final Object[] values = combined.currentValue();
+        if(values != null) {
+            publish(values);
+        }
+    }
+
+    /**
+     * Returns the LiveData of the output at the given index.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <T> LiveData<T> getOutput(int index) {
+        if(index < 0 || index >= outputs.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + outputs.length);
+        }
+        return (LiveData<T>) outputs[index];
+    }
+
+    public int getOutputCount() {
+        return outputs.length;
+    }
+
+    /**
+     * Returns the combined LiveData that evaluates the combiner, which can be configured, for example with {@link CombinedLiveData#batched()}.
+     */
+    @Nonnull
+    public CombinedLiveData<Object[]> getCombined() {
+        return combined;
+    }
+
+    private void publish(@Nonnull Object[] values) {
+        for(int i = 0; i < outputs.length; i++) {
+            outputs[i].publish(values[i]);
+        }
+    }
+
+    void onOutputActive() {
+        if(activeOutputCount++ == 0) {
+            combined.observeForever(distributor);
+        }
+    }
+
+    void onOutputInactive() {
+        if(--activeOutputCount == 0) {
+            combined.removeObserver(distributor);
+        }
+    }
+
+    private static final class Output extends LiveData<Object> {
+        private final CombinedOutputs outputs;
+
+        private boolean hasValue;
+
+        Output(@Nonnull CombinedOutputs outputs) {
+            this.outputs = outputs;
+        }
+
+        void publish(@Nullable Object value) {
+            if(hasValue) {
+                final Object current = getValue();
+                if(current == value || (current != null && current.equals(value))) {
+                    return;
+                }
+            }
+            hasValue = true;
+            setValue(value);
+        }
+
+        @Override
+        protected void onActive() {
+            outputs.onOutputActive();
+        }
+
+        @Override
+        protected void onInactive() {
+            outputs.onOutputInactive();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded least-recently-used cache of combined values by the values of the sources, see {@link CombinedLiveData#memoized(int)}.
+ *
+ * Only accessed on the main thread.
+ */
+public final class CombinerCache {
+    static final Object NOT_FOUND = new Object();
+
+    private final boolean byIdentity;
+    private final Map<Key, Object> entries;
+
+    // reused to look up the current values without copying them
+    private final Key probe = new Key();
+
+    private long hitCount;
+    private long missCount;
+
+    CombinerCache(final int maxSize, boolean byIdentity) {
+        this.byIdentity = byIdentity;
+        this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Nullable
+    Object get(@Nonnull Object[] values) {
+        probe.values = values;
+        probe.hash = hash(values);
+        try {
+            final Object result = entries.get(probe);
+            if(result != null || entries.containsKey(probe)) {
+                hitCount++;
+                return result;
+            }
+            missCount++;
+            return NOT_FOUND;
+        } finally {
+            probe.values = null;
+        }
+    }
+
+    void put(@Nonnull Object[] values, @Nullable Object result) {
+        final Key key = new Key();
+        key.values = values.clone();
+        key.hash = hash(values);
+        entries.put(key, result);
+    }
+
+    private int hash(@Nonnull Object[] values) {
+        int hash = 1;
+        for(Object value : values) {
+            hash = 31 * hash + (value == null ? 0 : (byIdentity ? System.identityHashCode(value) : value.hashCode()));
+        }
+        return hash;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private final class Key {
+        private Object[] values;
+        private int hash;
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof CombinerCache.Key)) {
+                return false;
+            }
+            final Object[] otherValues = ((Key) o).values;
+            if(otherValues.length != values.length) {
+                return false;
+            }
+            for(int i = 0; i < values.length; i++) {
+                final Object value = values[i];
+                final Object otherValue = otherValues[i];
+                if(value != otherValue && (byIdentity || value == null || !value.equals(otherValue))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * A combined LiveData whose sources can be attached and detached at runtime, see {@link LiveDataCombineUtil#combineDynamic(Object, LiveDataCombineUtil.DynamicCombiner)}.
+ *
+ * Attaching or detaching a source only subscribes or unsubscribes that source, and updates the combined value incrementally.
+ *
+ * @param <T> the type of the source values
+ * @param <R> the type of the combined value
+ */
+public class DynamicCombinedLiveData<T, R> extends MediatorLiveData<R> {
+    private final LiveDataCombineUtil.DynamicCombiner<T, R> combiner;
+
+    private final Map<LiveData<? extends T>, SourceObserver> sourceObservers = new IdentityHashMap<>();
+
+    // the latest combined value, which is ahead of getValue() while a transaction is open
+    private R result;
+
+    private boolean emissionPending;
+    private final Propagation.PendingEmission pendingEmission = new Propagation.PendingEmission() {
+        @Override
+        public void emit() {
+            emissionPending = false;
+            setValue(result);
+        }
+    };
+
+    DynamicCombinedLiveData(@Nullable R initialResult, @Nonnull LiveDataCombineUtil.DynamicCombiner<T, R> combiner) {
+        this.combiner = combiner;
+        this.result = initialResult;
+        setValue(initialResult);
+    }
+
+    /**
+     * Attaches a source, and adds its current value to the combined value.
+     *
+     * @param source the source
+     * @throws IllegalArgumentException if the source is already attached
+     */
+    public void attach(@Nonnull LiveData<? extends T> source) {
+        if(source == null) {
+            throw new NullPointerException("source should not be null");
+        }
+        if(sourceObservers.containsKey(source)) {
+            throw new IllegalArgumentException("The source [" + source + "] is already attached");
+        }
+
+        final SourceObserver sourceObserver = new SourceObserver(source.getValue());
+        sourceObservers.put(source, sourceObserver);
+
+        publish(combiner.onAdded(result, sourceObserver.value));
+
+        addSource(source, sourceObserver);
+    }
+
+    /**
+     * Detaches a source, and removes its latest value from the combined value. Does nothing if the source is not attached.
+     *
+     * @param source the source
+     */
+    public void detach(@Nonnull LiveData<? extends T> source) {
+        if(source == null) {
+            throw new NullPointerException("source should not be null");
+        }
+
+        final SourceObserver sourceObserver = sourceObservers.remove(source);
+        if(sourceObserver == null) {
+            return;
+        }
+
+        removeSource(source);
+
+        publish(combiner.onRemoved(result, sourceObserver.value));
+    }
+
+    public boolean isAttached(@Nonnull LiveData<? extends T> source) {
+        return sourceObservers.containsKey(source);
+    }
+
+    public int getSourceCount() {
+        return sourceObservers.size();
+    }
+
+    private void publish(@Nullable R newResult) {
+        result = newResult;
+        if(Propagation.isInTransaction()) {
+            if(!emissionPending) {
+                emissionPending = true;
+                Propagation.deferEmission(pendingEmission);
+            }
+            return;
+        }
+        setValue(newResult);
+    }
+
+    private final class SourceObserver implements Observer<T> {
+        private T value;
+
+        // when the source is plugged for the first time, it re-delivers the value that was read when it was attached
+        private boolean delivered;
+
+        SourceObserver(@Nullable T value) {
+            this.value = value;
+        }
+
+        @Override
+        public void onChanged(@Nullable T newValue) {
+            final T previousValue = value;
+            value = newValue;
+
+            final boolean firstDelivery = !delivered;
+            delivered = true;
+            if(firstDelivery && previousValue == newValue) {
+                return;
+            }
+
+            publish(combiner.onChanged(result, previousValue, newValue));
+        }
+    }
+}
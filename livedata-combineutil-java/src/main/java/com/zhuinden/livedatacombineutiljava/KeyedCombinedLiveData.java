@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * Combines keyed sources into a {@link PersistentMap}, see {@link LiveDataCombineUtil#combineKeyed(Map)}.
+ *
+ * When a source changes, only the path to its key is copied, the rest of the map is shared with the previously emitted map.
+ * Sources can be attached and detached by key at runtime. The same source can be attached under multiple keys, it is only observed once.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the source values
+ */
+public class KeyedCombinedLiveData<K, V> extends MediatorLiveData<PersistentMap<K, V>> {
+    private final Map<K, LiveData<? extends V>> keySources = new HashMap<>();
+    // the same LiveData can be attached under multiple keys, but it can only be added to the mediator once.
+    private final Map<LiveData<? extends V>, SourceObserver> sourceObservers = new IdentityHashMap<>();
+
+    private PersistentMap<K, V> map = PersistentMap.empty();
+
+    // the latest map is emitted once the transaction is committed, see LiveDataCombineUtil#transaction(Runnable)
+    private boolean emissionPending;
+    private final Propagation.PendingEmission pendingEmission = new Propagation.PendingEmission() {
+        @Override
+        public void emit() {
+            emissionPending = false;
+            setValue(map);
+        }
+    };
+
+    KeyedCombinedLiveData() {
+        setValue(map);
+    }
+
+    /**
+     * Attaches a source, and adds its current value to the map under the given key.
+     *
+     * @param key    the key
+     * @param source the source
+     * @throws IllegalArgumentException if a source is already attached for the key
+     */
+    public void attach(@Nonnull K key, @Nonnull LiveData<? extends V> source) {
+        if(key == null) {
+            throw new NullPointerException("key should not be null");
+        }
+        if(source == null) {
+            throw new NullPointerException("source should not be null");
+        }
+        if(keySources.containsKey(key)) {
+            throw new IllegalArgumentException("A source is already attached for the key [" + key + "]");
+        }
+
+        keySources.put(key, source);
+
+        final SourceObserver existingObserver = sourceObservers.get(source);
+        if(existingObserver != null) {
+            existingObserver.keys.add(key);
+            publish(map.plus(key, source.getValue()));
+            return;
+        }
+
+        final SourceObserver sourceObserver = new SourceObserver(key);
+        sourceObservers.put(source, sourceObserver);
+
+        publish(map.plus(key, source.getValue()));
+
+        addSource(source, sourceObserver);
+    }
+
+    /**
+     * Detaches the source of the given key, and removes the key from the map. Does nothing if no source is attached for the key.
+     *
+     * @param key the key
+     */
+    public void detach(@Nonnull K key) {
+        if(key == null) {
+            throw new NullPointerException("key should not be null");
+        }
+
+        final LiveData<? extends V> source = keySources.remove(key);
+        if(source == null) {
+            return;
+        }
+
+        final SourceObserver sourceObserver = sourceObservers.get(source);
+        sourceObserver.keys.remove(key);
+        if(sourceObserver.keys.isEmpty()) {
+            sourceObservers.remove(source);
+            removeSource(source);
+        }
+
+        publish(map.minus(key));
+    }
+
+    public boolean isAttached(@Nonnull K key) {
+        return keySources.containsKey(key);
+    }
+
+    /**
+     * Returns the number of attached keys. A source attached under multiple keys is counted for each of them.
+     */
+    public int getSourceCount() {
+        return keySources.size();
+    }
+
+    private void publish(@Nonnull PersistentMap<K, V> newMap) {
+        if(newMap == map) {
+            return;
+        }
+        map = newMap;
+        if(Propagation.isInTransaction()) {
+            if(!emissionPending) {
+                emissionPending = true;
+                Propagation.deferEmission(pendingEmission);
+            }
+            return;
+        }
+        setValue(newMap);
+    }
+
+    private final class SourceObserver implements Observer<V> {
+        // the keys the source is attached under
+        private final List<K> keys = new ArrayList<>(1);
+
+        SourceObserver(@Nonnull K key) {
+            keys.add(key);
+        }
+
+        @Override
+        public void onChanged(@Nullable V value) {
+            // re-delivering the value that is already in the map returns the same map, which is not emitted again
+            PersistentMap<K, V> newMap = map;
+            for(int i = 0, size = keys.size(); i < size; i++) {
+                newMap = newMap.plus(keys.get(i), value);
+            }
+            publish(newMap);
+        }
+    }
+}
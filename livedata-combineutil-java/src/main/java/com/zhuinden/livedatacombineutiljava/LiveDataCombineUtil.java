@@ -15,25 +15,233 @@
  */
 package com.zhuinden.livedatacombineutiljava;
 
+import java.util.Map;
+import java.util.concurrent.Executor;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MediatorLiveData;
-import androidx.lifecycle.Observer;
 
 
 public class LiveDataCombineUtil {
     private LiveDataCombineUtil() {
     }
 
+    /**
+     * Passed to incremental combiners as the changed index when the result should be computed from all values,
+     * for example on the initial evaluation, or when multiple sources changed within one batch.
+     */
+    public static final int FULL_RECOMPUTE = -1;
+
+    /**
+     * Decides whether two values should be treated as the same, for example to skip re-evaluating a combiner.
+     *
+     * @param <T> the type of the compared values
+     */
+    public interface Equality<T> {
+        boolean isEqual(@Nullable T previous, @Nullable T current);
+    }
+
+    /**
+     * Decides whether a combined value should be emitted, see {@link CombinedLiveData#filter(Predicate)}.
+     *
+     * @param <T> the type of the tested values
+     */
+    public interface Predicate<T> {
+        boolean test(@Nullable T value);
+    }
+
+    private static final Equality<Object> IDENTITY_EQUALITY = new Equality<Object>() {
+        @Override
+        public boolean isEqual(@Nullable Object previous, @Nullable Object current) {
+            return previous == current;
+        }
+    };
+
+    private static final Equality<Object> EQUALS_EQUALITY = new Equality<Object>() {
+        @Override
+        public boolean isEqual(@Nullable Object previous, @Nullable Object current) {
+            return previous == current || (previous != null && previous.equals(current));
+        }
+    };
+
+    /**
+     * Values are equal if they are the same instance.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Equality<T> byIdentity() {
+        return (Equality<T>) IDENTITY_EQUALITY;
+    }
+
+    /**
+     * Values are equal according to {@link Object#equals(Object)}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Equality<T> byEquals() {
+        return (Equality<T>) EQUALS_EQUALITY;
+    }
+
+    /**
+     * Runs the provided updates in a transaction: combined LiveData created by this class only record the changes of their sources,
+     * and are evaluated once each, in dependency order, after the updates ran. {@link KeyedCombinedLiveData}, {@link DynamicCombinedLiveData}
+     * and the outputs of a {@link CombineGraph} are updated incrementally while the transaction is open, but only emit their latest value once it is committed.
+     * Must be called on the main thread.
+     *
+     * @param updates the updates, usually setting the values of multiple sources
+     */
+    public static void transaction(@Nonnull Runnable updates) {
+        if(updates == null) {
+            throw new NullPointerException("updates should not be null");
+        }
+        beginTransaction();
+        try {
+            updates.run();
+        } finally {
+            commitTransaction();
+        }
+    }
+
+    /**
+     * Opens a transaction, see {@link #transaction(Runnable)}. Transactions can be nested, the changes are evaluated when the outermost one is committed.
+     */
+    public static void beginTransaction() {
+        Propagation.beginTransaction();
+    }
+
+    /**
+     * Commits the transaction opened by {@link #beginTransaction()}.
+     *
+     * @throws IllegalStateException if there is no open transaction
+     */
+    public static void commitTransaction() {
+        Propagation.commitTransaction();
+    }
+
+    private static final CombinedLiveData.Evaluator<Object[]> ARRAY_EVALUATOR = new CombinedLiveData.PureEvaluator<Object[]>() {
+        @Override
+        public Object[] evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Object[] previousResult) {
+            return values.clone();
+        }
+    };
+
+    // a single evaluator class for every arity, instead of one class per CombinerN.
+    static final class CombinerEvaluator<R> implements CombinedLiveData.PureEvaluator<R> {
+        private final Object combiner;
+
+        CombinerEvaluator(@Nonnull Object combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult) {
+            switch(values.length) {
+                case 2:
+                    return ((Combiner2<Object, Object, R>) combiner).combine(values[0], values[1]);
+                case 3:
+                    return ((Combiner3<Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2]);
+                case 4:
+                    return ((Combiner4<Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3]);
+                case 5:
+                    return ((Combiner5<Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4]);
+                case 6:
+                    return ((Combiner6<Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5]);
+                case 7:
+                    return ((Combiner7<Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+                case 8:
+                    return ((Combiner8<Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]);
+                case 9:
+                    return ((Combiner9<Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8]);
+                case 10:
+                    return ((Combiner10<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9]);
+                case 11:
+                    return ((Combiner11<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10]);
+                case 12:
+                    return ((Combiner12<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11]);
+                case 13:
+                    return ((Combiner13<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12]);
+                case 14:
+                    return ((Combiner14<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13]);
+                case 15:
+                    return ((Combiner15<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], values[14]);
+                case 16:
+                    return ((Combiner16<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15]);
+                default:
+                    throw new IllegalStateException("Unexpected number of sources: " + values.length);
+            }
+        }
+    }
+
+    private static final class IncrementalCombinerEvaluator<R> implements CombinedLiveData.Evaluator<R> {
+        private final Object combiner;
+
+        IncrementalCombinerEvaluator(@Nonnull Object combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult) {
+            switch(values.length) {
+                case 2:
+                    return ((IncrementalCombiner2<Object, Object, R>) combiner).combine(values[0], values[1], changedIndex, previousValue, previousResult);
+                case 3:
+                    return ((IncrementalCombiner3<Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], changedIndex, previousValue, previousResult);
+                case 4:
+                    return ((IncrementalCombiner4<Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], changedIndex, previousValue, previousResult);
+                case 5:
+                    return ((IncrementalCombiner5<Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], changedIndex, previousValue, previousResult);
+                case 6:
+                    return ((IncrementalCombiner6<Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], changedIndex, previousValue, previousResult);
+                case 7:
+                    return ((IncrementalCombiner7<Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], changedIndex, previousValue, previousResult);
+                case 8:
+                    return ((IncrementalCombiner8<Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], changedIndex, previousValue, previousResult);
+                case 9:
+                    return ((IncrementalCombiner9<Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], changedIndex, previousValue, previousResult);
+                case 10:
+                    return ((IncrementalCombiner10<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], changedIndex, previousValue, previousResult);
+                case 11:
+                    return ((IncrementalCombiner11<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], changedIndex, previousValue, previousResult);
+                case 12:
+                    return ((IncrementalCombiner12<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], changedIndex, previousValue, previousResult);
+                case 13:
+                    return ((IncrementalCombiner13<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], changedIndex, previousValue, previousResult);
+                case 14:
+                    return ((IncrementalCombiner14<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], changedIndex, previousValue, previousResult);
+                case 15:
+                    return ((IncrementalCombiner15<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], values[14], changedIndex, previousValue, previousResult);
+                case 16:
+                    return ((IncrementalCombiner16<Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, R>) combiner).combine(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7], values[8], values[9], values[10], values[11], values[12], values[13], values[14], values[15], changedIndex, previousValue, previousResult);
+                default:
+                    throw new IllegalStateException("Unexpected number of sources: " + values.length);
+            }
+        }
+    }
+
+    /*
+     * The combineLazy variants do not evaluate the combiner until the LiveData becomes active, or getValue() is called on the main thread.
+     * Unlike combine, they can be called from a background thread.
+     */
     public interface Combiner2<T1, T2, R> {
         @Nullable
         R combine(@Nullable T1 t1, @Nullable T2 t2);
     }
 
     @Nonnull
-    public static <T1, T2, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final Combiner2<T1, T2, R> combiner2) {
+    public static <T1, T2, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final Combiner2<T1, T2, R> combiner2) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, combiner2);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final Combiner2<T1, T2, R> combiner2) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -44,27 +252,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner2 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner2.combine(f1.getValue(), f2.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                mediator.setValue(combiner2.combine(t1, t2));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                mediator.setValue(combiner2.combine(t1, t2));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new CombinerEvaluator<R>(combiner2));
     }
 
     public interface Combiner3<T1, T2, T3, R> {
@@ -73,7 +261,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final Combiner3<T1, T2, T3, R> combiner3) {
+    public static <T1, T2, T3, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final Combiner3<T1, T2, T3, R> combiner3) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, combiner3);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final Combiner3<T1, T2, T3, R> combiner3) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -87,38 +284,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner3 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner3.combine(f1.getValue(), f2.getValue(), f3.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                mediator.setValue(combiner3.combine(t1, t2, t3));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                mediator.setValue(combiner3.combine(t1, t2, t3));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                mediator.setValue(combiner3.combine(t1, t2, t3));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new CombinerEvaluator<R>(combiner3));
     }
 
     public interface Combiner4<T1, T2, T3, T4, R> {
@@ -127,7 +293,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final Combiner4<T1, T2, T3, T4, R> combiner4) {
+    public static <T1, T2, T3, T4, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final Combiner4<T1, T2, T3, T4, R> combiner4) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, combiner4);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final Combiner4<T1, T2, T3, T4, R> combiner4) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -144,51 +319,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner4 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner4.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                mediator.setValue(combiner4.combine(t1, t2, t3, t4));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                mediator.setValue(combiner4.combine(t1, t2, t3, t4));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                mediator.setValue(combiner4.combine(t1, t2, t3, t4));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                mediator.setValue(combiner4.combine(t1, t2, t3, t4));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new CombinerEvaluator<R>(combiner4));
     }
 
     public interface Combiner5<T1, T2, T3, T4, T5, R> {
@@ -197,7 +328,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final Combiner5<T1, T2, T3, T4, T5, R> combiner5) {
+    public static <T1, T2, T3, T4, T5, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final Combiner5<T1, T2, T3, T4, T5, R> combiner5) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, combiner5);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final Combiner5<T1, T2, T3, T4, T5, R> combiner5) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -217,66 +357,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner5 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner5.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                mediator.setValue(combiner5.combine(t1, t2, t3, t4, t5));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                mediator.setValue(combiner5.combine(t1, t2, t3, t4, t5));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                mediator.setValue(combiner5.combine(t1, t2, t3, t4, t5));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                mediator.setValue(combiner5.combine(t1, t2, t3, t4, t5));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                mediator.setValue(combiner5.combine(t1, t2, t3, t4, t5));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5}, new CombinerEvaluator<R>(combiner5));
     }
 
     public interface Combiner6<T1, T2, T3, T4, T5, T6, R> {
@@ -285,7 +366,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final Combiner6<T1, T2, T3, T4, T5, T6, R> combiner6) {
+    public static <T1, T2, T3, T4, T5, T6, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final Combiner6<T1, T2, T3, T4, T5, T6, R> combiner6) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, combiner6);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final Combiner6<T1, T2, T3, T4, T5, T6, R> combiner6) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -308,83 +398,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner6 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner6.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                mediator.setValue(combiner6.combine(t1, t2, t3, t4, t5, t6));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                mediator.setValue(combiner6.combine(t1, t2, t3, t4, t5, t6));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                mediator.setValue(combiner6.combine(t1, t2, t3, t4, t5, t6));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                mediator.setValue(combiner6.combine(t1, t2, t3, t4, t5, t6));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                mediator.setValue(combiner6.combine(t1, t2, t3, t4, t5, t6));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                mediator.setValue(combiner6.combine(t1, t2, t3, t4, t5, t6));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6}, new CombinerEvaluator<R>(combiner6));
     }
 
     public interface Combiner7<T1, T2, T3, T4, T5, T6, T7, R> {
@@ -393,7 +407,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final Combiner7<T1, T2, T3, T4, T5, T6, T7, R> combiner7) {
+    public static <T1, T2, T3, T4, T5, T6, T7, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final Combiner7<T1, T2, T3, T4, T5, T6, T7, R> combiner7) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, combiner7);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final Combiner7<T1, T2, T3, T4, T5, T6, T7, R> combiner7) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -419,102 +442,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner7 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner7.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                mediator.setValue(combiner7.combine(t1, t2, t3, t4, t5, t6, t7));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7}, new CombinerEvaluator<R>(combiner7));
     }
 
     public interface Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
@@ -523,7 +451,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner8) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner8) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, combiner8);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner8) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -552,123 +489,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner8 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner8.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                mediator.setValue(combiner8.combine(t1, t2, t3, t4, t5, t6, t7, t8));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8}, new CombinerEvaluator<R>(combiner8));
     }
 
     public interface Combiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> {
@@ -677,7 +498,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final Combiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner9) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final Combiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner9) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, combiner9);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final Combiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner9) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -709,155 +539,25 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner9 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9}, new CombinerEvaluator<R>(combiner9));
+    }
 
-        mediator.setValue(combiner9.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue()));
+    public interface Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10);
+    }
 
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner10) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, combiner10);
 
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
+        mediator.initialize();
 
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                mediator.setValue(combiner9.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9));
-            }
-        });
-
-        return mediator;
-    }
-
-    public interface Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
-        @Nullable
-        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10);
-    }
+        return mediator;
+    }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner10) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner10) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -892,171 +592,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner10 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner10.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        mediator.addSource(f10, new Observer<T10>() {
-            @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                mediator.setValue(combiner10.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10}, new CombinerEvaluator<R>(combiner10));
     }
 
     public interface Combiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> {
@@ -1065,7 +601,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final Combiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner11) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final Combiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner11) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, combiner11);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final Combiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner11) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -1103,198 +648,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner11 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner11.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue(), f11.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f10, new Observer<T10>() {
-            @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        mediator.addSource(f11, new Observer<T11>() {
-            @Override
-            public void onChanged(T11 t11) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                mediator.setValue(combiner11.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11}, new CombinerEvaluator<R>(combiner11));
     }
 
     public interface Combiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> {
@@ -1303,7 +657,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final Combiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner12) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final Combiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner12) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, combiner12);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final Combiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner12) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -1344,227 +707,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner12 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner12.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue(), f11.getValue(), f12.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f10, new Observer<T10>() {
-            @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f11, new Observer<T11>() {
-            @Override
-            public void onChanged(T11 t11) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        mediator.addSource(f12, new Observer<T12>() {
-            @Override
-            public void onChanged(T12 t12) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                mediator.setValue(combiner12.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12}, new CombinerEvaluator<R>(combiner12));
     }
 
     public interface Combiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> {
@@ -1573,7 +716,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final Combiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner13) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final Combiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner13) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, combiner13);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final Combiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner13) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -1617,258 +769,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner13 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner13.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue(), f11.getValue(), f12.getValue(), f13.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f10, new Observer<T10>() {
-            @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f11, new Observer<T11>() {
-            @Override
-            public void onChanged(T11 t11) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f12, new Observer<T12>() {
-            @Override
-            public void onChanged(T12 t12) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        mediator.addSource(f13, new Observer<T13>() {
-            @Override
-            public void onChanged(T13 t13) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                mediator.setValue(combiner13.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13}, new CombinerEvaluator<R>(combiner13));
     }
 
     public interface Combiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> {
@@ -1877,7 +778,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final Combiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner14) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final Combiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner14) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, combiner14);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final Combiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner14) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -1924,300 +834,25 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner14 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner14.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue(), f11.getValue(), f12.getValue(), f13.getValue(), f14.getValue()));
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14}, new CombinerEvaluator<R>(combiner14));
+    }
 
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f10, new Observer<T10>() {
-            @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f11, new Observer<T11>() {
-            @Override
-            public void onChanged(T11 t11) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
-
-        mediator.addSource(f12, new Observer<T12>() {
-            @Override
-            public void onChanged(T12 t12) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
+    public interface Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, @Nullable T13 t13, @Nullable T14 t14, @Nullable T15 t15);
+    }
 
-        mediator.addSource(f13, new Observer<T13>() {
-            @Override
-            public void onChanged(T13 t13) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner15) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, combiner15);
 
-        mediator.addSource(f14, new Observer<T14>() {
-            @Override
-            public void onChanged(T14 t14) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                mediator.setValue(combiner14.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14));
-            }
-        });
+        mediator.initialize();
 
         return mediator;
     }
 
-    public interface Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> {
-        @Nullable
-        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, @Nullable T13 t13, @Nullable T14 t14, @Nullable T15 t15);
-    }
-
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner15) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner15) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -2267,326 +902,7 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner15 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner15.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue(), f11.getValue(), f12.getValue(), f13.getValue(), f14.getValue(), f15.getValue()));
-
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f10, new Observer<T10>() {
-            @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f11, new Observer<T11>() {
-            @Override
-            public void onChanged(T11 t11) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f12, new Observer<T12>() {
-            @Override
-            public void onChanged(T12 t12) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f13, new Observer<T13>() {
-            @Override
-            public void onChanged(T13 t13) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f14, new Observer<T14>() {
-            @Override
-            public void onChanged(T14 t14) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        mediator.addSource(f15, new Observer<T15>() {
-            @Override
-            public void onChanged(T15 t15) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                mediator.setValue(combiner15.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15));
-            }
-        });
-
-        return mediator;
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15}, new CombinerEvaluator<R>(combiner15));
     }
 
     public interface Combiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> {
@@ -2595,7 +911,16 @@ public class LiveDataCombineUtil {
     }
 
     @Nonnull
-    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> LiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final LiveData<T16> f16, @Nonnull final Combiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner16) {
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> CombinedLiveData<R> combine(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final LiveData<T16> f16, @Nonnull final Combiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner16) {
+        final CombinedLiveData<R> mediator = combineLazy(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, combiner16);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> CombinedLiveData<R> combineLazy(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final LiveData<T16> f16, @Nonnull final Combiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner16) {
         if(f1 == null) {
             throw new NullPointerException("f1 should not be null");
         }
@@ -2648,406 +973,2412 @@ public class LiveDataCombineUtil {
             throw new NullPointerException("combiner16 should not be null");
         }
 
-        final MediatorLiveData<R> mediator = new MediatorLiveData<>();
-
-        mediator.setValue(combiner16.combine(f1.getValue(), f2.getValue(), f3.getValue(), f4.getValue(), f5.getValue(), f6.getValue(), f7.getValue(), f8.getValue(), f9.getValue(), f10.getValue(), f11.getValue(), f12.getValue(), f13.getValue(), f14.getValue(), f15.getValue(), f16.getValue()));
+        return new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16}, new CombinerEvaluator<R>(combiner16));
+    }
 
-        mediator.addSource(f1, new Observer<T1>() {
-            @Override
-            public void onChanged(T1 t1) {
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+    @Nonnull
+    public static CombinedLiveData<Object[]> combineArray(@Nonnull final LiveData<?>... liveDatas) {
+        final CombinedLiveData<Object[]> mediator = combineArrayLazy(liveDatas);
 
-        mediator.addSource(f2, new Observer<T2>() {
-            @Override
-            public void onChanged(T2 t2) {
-                final T1 t1 = f1.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        mediator.initialize();
 
-        mediator.addSource(f3, new Observer<T3>() {
-            @Override
-            public void onChanged(T3 t3) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        return mediator;
+    }
 
-        mediator.addSource(f4, new Observer<T4>() {
-            @Override
-            public void onChanged(T4 t4) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+    @Nonnull
+    public static CombinedLiveData<Object[]> combineArrayLazy(@Nonnull final LiveData<?>... liveDatas) {
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
 
-        mediator.addSource(f5, new Observer<T5>() {
-            @Override
-            public void onChanged(T5 t5) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
             }
-        });
+        }
 
-        mediator.addSource(f6, new Observer<T6>() {
-            @Override
-            public void onChanged(T6 t6) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        // copied, so that the caller changing its array afterwards does not change the sources
+        return new CombinedLiveData<>(liveDatas.clone(), ARRAY_EVALUATOR);
+    }
 
-        mediator.addSource(f7, new Observer<T7>() {
-            @Override
-            public void onChanged(T7 t7) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+    /**
+     * Combines the sources like {@link #combineArray(LiveData[])}, but without allocating a new array on each change.
+     *
+     * The emitted {@link ArraySnapshot} is the same instance on every emission, so it must not be retained: use {@link ArraySnapshot#copy()} to keep the values.
+     * For the same reason it can't be compared with its previous value: {@link CombinedLiveData#distinctUntilChanged()} and {@link CombinedLiveData#distinct()}
+     * throw {@link UnsupportedOperationException}, unless the snapshot is mapped to a copy first. A snapshot that is passed on as it is by
+     * {@link CombinedLiveData#map(androidx.arch.core.util.Function)} is never deduplicated.
+     */
+    @Nonnull
+    public static CombinedLiveData<ArraySnapshot> combineArraySnapshot(@Nonnull final LiveData<?>... liveDatas) {
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
 
-        mediator.addSource(f8, new Observer<T8>() {
-            @Override
-            public void onChanged(T8 t8) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
             }
-        });
+        }
 
-        mediator.addSource(f9, new Observer<T9>() {
-            @Override
-            public void onChanged(T9 t9) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        final CombinedLiveData<ArraySnapshot> mediator = new CombinedLiveData<ArraySnapshot>(liveDatas.clone(), new CombinedLiveData.Evaluator<ArraySnapshot>() {
+            private ArraySnapshot snapshot;
 
-        mediator.addSource(f10, new Observer<T10>() {
             @Override
-            public void onChanged(T10 t10) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
+            public ArraySnapshot evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable ArraySnapshot previousResult) {
+                if(snapshot == null) {
+                    snapshot = new ArraySnapshot(values);
+                }
+                return snapshot;
             }
         });
+        mediator.emitsSnapshots = true;
 
-        mediator.addSource(f11, new Observer<T11>() {
-            @Override
-            public void onChanged(T11 t11) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        mediator.initialize();
 
-        mediator.addSource(f12, new Observer<T12>() {
-            @Override
-            public void onChanged(T12 t12) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        return mediator;
+    }
 
-        mediator.addSource(f13, new Observer<T13>() {
-            @Override
-            public void onChanged(T13 t13) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+    public interface IncrementalCombiner2<T1, T2, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
 
-        mediator.addSource(f14, new Observer<T14>() {
-            @Override
-            public void onChanged(T14 t14) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T15 t15 = f15.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+    @Nonnull
+    public static <T1, T2, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final IncrementalCombiner2<T1, T2, R> combiner2) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(combiner2 == null) {
+            throw new NullPointerException("combiner2 should not be null");
+        }
 
-        mediator.addSource(f15, new Observer<T15>() {
-            @Override
-            public void onChanged(T15 t15) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T16 t16 = f16.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new IncrementalCombinerEvaluator<R>(combiner2));
 
-        mediator.addSource(f16, new Observer<T16>() {
-            @Override
-            public void onChanged(T16 t16) {
-                final T1 t1 = f1.getValue();
-                final T2 t2 = f2.getValue();
-                final T3 t3 = f3.getValue();
-                final T4 t4 = f4.getValue();
-                final T5 t5 = f5.getValue();
-                final T6 t6 = f6.getValue();
-                final T7 t7 = f7.getValue();
-                final T8 t8 = f8.getValue();
-                final T9 t9 = f9.getValue();
-                final T10 t10 = f10.getValue();
-                final T11 t11 = f11.getValue();
-                final T12 t12 = f12.getValue();
-                final T13 t13 = f13.getValue();
-                final T14 t14 = f14.getValue();
-                final T15 t15 = f15.getValue();
-                mediator.setValue(combiner16.combine(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16));
-            }
-        });
+        mediator.initialize();
 
         return mediator;
     }
 
-    @Nonnull
-    public static LiveData<Object[]> combineArray(@Nonnull final LiveData<?>... liveDatas) {
-        final Object[] initialValues = new Object[liveDatas.length];
-
-        for(int i = 0; i < liveDatas.length; i++) {
-            final LiveData<?> liveData = liveDatas[i];
-
-            if(liveData == null) {
-                throw new NullPointerException("liveData[" + i + "] should not be null!");
-            }
+    public interface IncrementalCombiner3<T1, T2, T3, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
 
-            initialValues[i] = liveData.getValue();
+    @Nonnull
+    public static <T1, T2, T3, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final IncrementalCombiner3<T1, T2, T3, R> combiner3) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(combiner3 == null) {
+            throw new NullPointerException("combiner3 should not be null");
         }
 
-        final MediatorLiveData<Object[]> mediator = new MediatorLiveData<>();
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new IncrementalCombinerEvaluator<R>(combiner3));
 
-        mediator.setValue(initialValues);
+        mediator.initialize();
 
-        for(int i = 0; i < liveDatas.length; i++) {
-            final LiveData<?> liveData = liveDatas[i];
+        return mediator;
+    }
 
-            final int currentIndex = i;
+    public interface IncrementalCombiner4<T1, T2, T3, T4, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
 
-            mediator.addSource(liveData, new Observer<Object>() {
-                @Override
-                public void onChanged(Object o) {
-                    final Object[] values = new Object[liveDatas.length];
+    @Nonnull
+    public static <T1, T2, T3, T4, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final IncrementalCombiner4<T1, T2, T3, T4, R> combiner4) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(combiner4 == null) {
+            throw new NullPointerException("combiner4 should not be null");
+        }
 
-                    for(int j = 0; j < liveDatas.length; j++) {
-                        if(currentIndex != j) {
-                            values[j] = liveDatas[j].getValue();
-                        } else {
-                            values[j] = o;
-                        }
-                    }
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new IncrementalCombinerEvaluator<R>(combiner4));
 
-                    mediator.setValue(values);
-                }
-            });
-        }
+        mediator.initialize();
 
         return mediator;
     }
-}
\ No newline at end of file
+
+    public interface IncrementalCombiner5<T1, T2, T3, T4, T5, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final IncrementalCombiner5<T1, T2, T3, T4, T5, R> combiner5) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(combiner5 == null) {
+            throw new NullPointerException("combiner5 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5}, new IncrementalCombinerEvaluator<R>(combiner5));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner6<T1, T2, T3, T4, T5, T6, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final IncrementalCombiner6<T1, T2, T3, T4, T5, T6, R> combiner6) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(combiner6 == null) {
+            throw new NullPointerException("combiner6 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6}, new IncrementalCombinerEvaluator<R>(combiner6));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner7<T1, T2, T3, T4, T5, T6, T7, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final IncrementalCombiner7<T1, T2, T3, T4, T5, T6, T7, R> combiner7) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(combiner7 == null) {
+            throw new NullPointerException("combiner7 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7}, new IncrementalCombinerEvaluator<R>(combiner7));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final IncrementalCombiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner8) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(combiner8 == null) {
+            throw new NullPointerException("combiner8 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8}, new IncrementalCombinerEvaluator<R>(combiner8));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final IncrementalCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner9) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(combiner9 == null) {
+            throw new NullPointerException("combiner9 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9}, new IncrementalCombinerEvaluator<R>(combiner9));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final IncrementalCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner10) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(combiner10 == null) {
+            throw new NullPointerException("combiner10 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10}, new IncrementalCombinerEvaluator<R>(combiner10));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final IncrementalCombiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner11) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(combiner11 == null) {
+            throw new NullPointerException("combiner11 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11}, new IncrementalCombinerEvaluator<R>(combiner11));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final IncrementalCombiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner12) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(combiner12 == null) {
+            throw new NullPointerException("combiner12 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12}, new IncrementalCombinerEvaluator<R>(combiner12));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, @Nullable T13 t13, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final IncrementalCombiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner13) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(combiner13 == null) {
+            throw new NullPointerException("combiner13 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13}, new IncrementalCombinerEvaluator<R>(combiner13));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, @Nullable T13 t13, @Nullable T14 t14, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final IncrementalCombiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner14) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(f14 == null) {
+            throw new NullPointerException("f14 should not be null");
+        }
+        if(combiner14 == null) {
+            throw new NullPointerException("combiner14 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14}, new IncrementalCombinerEvaluator<R>(combiner14));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, @Nullable T13 t13, @Nullable T14 t14, @Nullable T15 t15, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final IncrementalCombiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner15) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(f14 == null) {
+            throw new NullPointerException("f14 should not be null");
+        }
+        if(f15 == null) {
+            throw new NullPointerException("f15 should not be null");
+        }
+        if(combiner15 == null) {
+            throw new NullPointerException("combiner15 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15}, new IncrementalCombinerEvaluator<R>(combiner15));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalCombiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> {
+        @Nullable
+        R combine(@Nullable T1 t1, @Nullable T2 t2, @Nullable T3 t3, @Nullable T4 t4, @Nullable T5 t5, @Nullable T6 t6, @Nullable T7 t7, @Nullable T8 t8, @Nullable T9 t9, @Nullable T10 t10, @Nullable T11 t11, @Nullable T12 t12, @Nullable T13 t13, @Nullable T14 t14, @Nullable T15 t15, @Nullable T16 t16, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> CombinedLiveData<R> combineIncremental(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final LiveData<T16> f16, @Nonnull final IncrementalCombiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner16) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(f14 == null) {
+            throw new NullPointerException("f14 should not be null");
+        }
+        if(f15 == null) {
+            throw new NullPointerException("f15 should not be null");
+        }
+        if(f16 == null) {
+            throw new NullPointerException("f16 should not be null");
+        }
+        if(combiner16 == null) {
+            throw new NullPointerException("combiner16 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16}, new IncrementalCombinerEvaluator<R>(combiner16));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IncrementalArrayCombiner<R> {
+        /**
+         * @param values the latest value of each source. Must not be retained or modified.
+         */
+        @Nullable
+        R combine(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult);
+    }
+
+    @Nonnull
+    public static <R> CombinedLiveData<R> combineArrayIncremental(@Nonnull final IncrementalArrayCombiner<R> combiner, @Nonnull final LiveData<?>... liveDatas) {
+        if(combiner == null) {
+            throw new NullPointerException("combiner should not be null");
+        }
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
+
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
+            }
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(liveDatas.clone(), new CombinedLiveData.Evaluator<R>() {
+            @Override
+            public R evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult) {
+                return combiner.combine(values, changedIndex, previousValue, previousResult);
+            }
+        });
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    /*
+     * The combineAsync variants evaluate the combiner on the provided executor (for example a thread pool, or a virtual thread per task executor on the JVM),
+     * using a snapshot of the source values taken on the main thread. Only the result of the latest evaluation is emitted,
+     * and in-flight evaluations are cancelled when the LiveData becomes inactive. Like the combineLazy variants,
+     * the first evaluation is only submitted on first activation or first getValue().
+     */
+    @Nonnull
+    public static <T1, T2, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final Executor executor, @Nonnull final Combiner2<T1, T2, R> combiner2) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner2 == null) {
+            throw new NullPointerException("combiner2 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new CombinerEvaluator<R>(combiner2));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final Executor executor, @Nonnull final Combiner3<T1, T2, T3, R> combiner3) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner3 == null) {
+            throw new NullPointerException("combiner3 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new CombinerEvaluator<R>(combiner3));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final Executor executor, @Nonnull final Combiner4<T1, T2, T3, T4, R> combiner4) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner4 == null) {
+            throw new NullPointerException("combiner4 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new CombinerEvaluator<R>(combiner4));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final Executor executor, @Nonnull final Combiner5<T1, T2, T3, T4, T5, R> combiner5) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner5 == null) {
+            throw new NullPointerException("combiner5 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5}, new CombinerEvaluator<R>(combiner5));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final Executor executor, @Nonnull final Combiner6<T1, T2, T3, T4, T5, T6, R> combiner6) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner6 == null) {
+            throw new NullPointerException("combiner6 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6}, new CombinerEvaluator<R>(combiner6));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final Executor executor, @Nonnull final Combiner7<T1, T2, T3, T4, T5, T6, T7, R> combiner7) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner7 == null) {
+            throw new NullPointerException("combiner7 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7}, new CombinerEvaluator<R>(combiner7));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final Executor executor, @Nonnull final Combiner8<T1, T2, T3, T4, T5, T6, T7, T8, R> combiner8) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner8 == null) {
+            throw new NullPointerException("combiner8 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8}, new CombinerEvaluator<R>(combiner8));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final Executor executor, @Nonnull final Combiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> combiner9) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner9 == null) {
+            throw new NullPointerException("combiner9 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9}, new CombinerEvaluator<R>(combiner9));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final Executor executor, @Nonnull final Combiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> combiner10) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner10 == null) {
+            throw new NullPointerException("combiner10 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10}, new CombinerEvaluator<R>(combiner10));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final Executor executor, @Nonnull final Combiner11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> combiner11) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner11 == null) {
+            throw new NullPointerException("combiner11 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11}, new CombinerEvaluator<R>(combiner11));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final Executor executor, @Nonnull final Combiner12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> combiner12) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner12 == null) {
+            throw new NullPointerException("combiner12 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12}, new CombinerEvaluator<R>(combiner12));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final Executor executor, @Nonnull final Combiner13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> combiner13) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner13 == null) {
+            throw new NullPointerException("combiner13 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13}, new CombinerEvaluator<R>(combiner13));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final Executor executor, @Nonnull final Combiner14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> combiner14) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(f14 == null) {
+            throw new NullPointerException("f14 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner14 == null) {
+            throw new NullPointerException("combiner14 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14}, new CombinerEvaluator<R>(combiner14));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final Executor executor, @Nonnull final Combiner15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> combiner15) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(f14 == null) {
+            throw new NullPointerException("f14 should not be null");
+        }
+        if(f15 == null) {
+            throw new NullPointerException("f15 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner15 == null) {
+            throw new NullPointerException("combiner15 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15}, new CombinerEvaluator<R>(combiner15));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    @Nonnull
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> CombinedLiveData<R> combineAsync(@Nonnull final LiveData<T1> f1, @Nonnull final LiveData<T2> f2, @Nonnull final LiveData<T3> f3, @Nonnull final LiveData<T4> f4, @Nonnull final LiveData<T5> f5, @Nonnull final LiveData<T6> f6, @Nonnull final LiveData<T7> f7, @Nonnull final LiveData<T8> f8, @Nonnull final LiveData<T9> f9, @Nonnull final LiveData<T10> f10, @Nonnull final LiveData<T11> f11, @Nonnull final LiveData<T12> f12, @Nonnull final LiveData<T13> f13, @Nonnull final LiveData<T14> f14, @Nonnull final LiveData<T15> f15, @Nonnull final LiveData<T16> f16, @Nonnull final Executor executor, @Nonnull final Combiner16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> combiner16) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(f5 == null) {
+            throw new NullPointerException("f5 should not be null");
+        }
+        if(f6 == null) {
+            throw new NullPointerException("f6 should not be null");
+        }
+        if(f7 == null) {
+            throw new NullPointerException("f7 should not be null");
+        }
+        if(f8 == null) {
+            throw new NullPointerException("f8 should not be null");
+        }
+        if(f9 == null) {
+            throw new NullPointerException("f9 should not be null");
+        }
+        if(f10 == null) {
+            throw new NullPointerException("f10 should not be null");
+        }
+        if(f11 == null) {
+            throw new NullPointerException("f11 should not be null");
+        }
+        if(f12 == null) {
+            throw new NullPointerException("f12 should not be null");
+        }
+        if(f13 == null) {
+            throw new NullPointerException("f13 should not be null");
+        }
+        if(f14 == null) {
+            throw new NullPointerException("f14 should not be null");
+        }
+        if(f15 == null) {
+            throw new NullPointerException("f15 should not be null");
+        }
+        if(f16 == null) {
+            throw new NullPointerException("f16 should not be null");
+        }
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner16 == null) {
+            throw new NullPointerException("combiner16 should not be null");
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16}, new CombinerEvaluator<R>(combiner16));
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    public interface ArrayCombiner<R> {
+        @Nullable
+        R combine(@Nonnull Object[] values);
+    }
+
+    @Nonnull
+    public static <R> CombinedLiveData<R> combineArrayAsync(@Nonnull final Executor executor, @Nonnull final ArrayCombiner<R> combiner, @Nonnull final LiveData<?>... liveDatas) {
+        if(executor == null) {
+            throw new NullPointerException("executor should not be null");
+        }
+        if(combiner == null) {
+            throw new NullPointerException("combiner should not be null");
+        }
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
+
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
+            }
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(liveDatas.clone(), new CombinedLiveData.PureEvaluator<R>() {
+            @Override
+            public R evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable R previousResult) {
+                return combiner.combine(values);
+            }
+        });
+
+        mediator.setExecutor(executor);
+
+        return mediator;
+    }
+
+    /**
+     * An associative operation, used to fold the values of many sources into one.
+     *
+     * @param <T> the type of the values
+     */
+    public interface Reducer<T> {
+        @Nullable
+        T reduce(@Nullable T left, @Nullable T right);
+    }
+
+    /**
+     * Folds the values of the sources from left to right with an associative reducer. Sources without a value are treated as the identity.
+     *
+     * The partial results are kept in a segment tree, so a change of a single source only recomputes O(log N) partial results.
+     *
+     * @param liveDatas the sources
+     * @param identity  the identity of the reducer, which is the result if there are no sources
+     * @param reducer   the associative operation
+     */
+    @Nonnull
+    public static <T> CombinedLiveData<T> combineReduce(@Nonnull final LiveData<? extends T>[] liveDatas, @Nullable final T identity, @Nonnull final Reducer<T> reducer) {
+        if(liveDatas == null) {
+            throw new NullPointerException("liveDatas should not be null");
+        }
+        if(reducer == null) {
+            throw new NullPointerException("reducer should not be null");
+        }
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
+
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
+            }
+        }
+
+        final CombinedLiveData<T> mediator = new CombinedLiveData<>(liveDatas.clone(), new SegmentTreeEvaluator<>(liveDatas.length, identity, reducer));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    private static final class SegmentTreeEvaluator<T> implements CombinedLiveData.Evaluator<T> {
+        private final T identity;
+        private final Reducer<T> reducer;
+
+        private final int leafOffset;
+        private final Object[] tree; // tree[1] is the root, the children of tree[i] are tree[2 * i] and tree[2 * i + 1]
+
+        SegmentTreeEvaluator(int size, @Nullable T identity, @Nonnull Reducer<T> reducer) {
+            this.identity = identity;
+            this.reducer = reducer;
+
+            int leafOffset = 1;
+            while(leafOffset < size) {
+                leafOffset <<= 1;
+            }
+            this.leafOffset = leafOffset;
+            this.tree = new Object[leafOffset * 2];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable T previousResult) {
+            if(values.length == 0) {
+                return identity;
+            }
+
+            if(changedIndex == FULL_RECOMPUTE) {
+                for(int i = 0; i < leafOffset; i++) {
+                    tree[leafOffset + i] = i < values.length && values[i] != null ? values[i] : identity;
+                }
+                for(int i = leafOffset - 1; i >= 1; i--) {
+                    tree[i] = reducer.reduce((T) tree[2 * i], (T) tree[2 * i + 1]);
+                }
+            } else {
+                int i = leafOffset + changedIndex;
+                tree[i] = values[changedIndex] != null ? values[changedIndex] : identity;
+                for(i >>= 1; i >= 1; i >>= 1) {
+                    tree[i] = reducer.reduce((T) tree[2 * i], (T) tree[2 * i + 1]);
+                }
+            }
+
+            return (T) tree[1];
+        }
+    }
+
+    /*
+     * Aggregates over many sources. Each of them keeps its running state between evaluations,
+     * so a change of a single source costs O(1), or O(log N) for min and max.
+     */
+
+    /**
+     * Emits true if every source has the value true. Sources without a value are not true.
+     */
+    @Nonnull
+    @SafeVarargs
+    public static CombinedLiveData<Boolean> allTrue(@Nonnull final LiveData<Boolean>... liveDatas) {
+        // copied element by element: the array is kept by the combined LiveData, and a generic varargs array should not escape
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new TrueCountEvaluator(true));
+    }
+
+    /**
+     * Emits true if any source has the value true.
+     */
+    @Nonnull
+    @SafeVarargs
+    public static CombinedLiveData<Boolean> anyTrue(@Nonnull final LiveData<Boolean>... liveDatas) {
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new TrueCountEvaluator(false));
+    }
+
+    /**
+     * Emits the sum of the sources as a long. Sources without a value count as 0.
+     */
+    @Nonnull
+    @SafeVarargs
+    public static CombinedLiveData<Long> sumLong(@Nonnull final LiveData<? extends Number>... liveDatas) {
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new LongSumEvaluator());
+    }
+
+    /**
+     * Emits the sum of the sources as a double. Sources without a value count as 0.
+     */
+    @Nonnull
+    @SafeVarargs
+    public static CombinedLiveData<Double> sumDouble(@Nonnull final LiveData<? extends Number>... liveDatas) {
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new DoubleSumEvaluator());
+    }
+
+    /**
+     * Emits the number of sources that have a non-null value.
+     */
+    @Nonnull
+    public static CombinedLiveData<Integer> countNonNull(@Nonnull final LiveData<?>... liveDatas) {
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new NonNullCountEvaluator());
+    }
+
+    /**
+     * Emits the smallest value of the sources, or null if none of them have a value.
+     */
+    @Nonnull
+    @SafeVarargs
+    public static <T extends Comparable<? super T>> CombinedLiveData<T> min(@Nonnull final LiveData<? extends T>... liveDatas) {
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new SegmentTreeEvaluator<>(liveDatas.length, null, new Reducer<T>() {
+            @Override
+            public T reduce(@Nullable T left, @Nullable T right) {
+                if(left == null) {
+                    return right;
+                }
+                if(right == null) {
+                    return left;
+                }
+                return right.compareTo(left) < 0 ? right : left;
+            }
+        }));
+    }
+
+    /**
+     * Emits the largest value of the sources, or null if none of them have a value.
+     */
+    @Nonnull
+    @SafeVarargs
+    public static <T extends Comparable<? super T>> CombinedLiveData<T> max(@Nonnull final LiveData<? extends T>... liveDatas) {
+        final LiveData<?>[] sources = new LiveData<?>[liveDatas.length];
+        for(int i = 0; i < liveDatas.length; i++) {
+            sources[i] = liveDatas[i];
+        }
+        return createAggregate(sources, new SegmentTreeEvaluator<>(liveDatas.length, null, new Reducer<T>() {
+            @Override
+            public T reduce(@Nullable T left, @Nullable T right) {
+                if(left == null) {
+                    return right;
+                }
+                if(right == null) {
+                    return left;
+                }
+                return right.compareTo(left) > 0 ? right : left;
+            }
+        }));
+    }
+
+    @Nonnull
+    private static <R> CombinedLiveData<R> createAggregate(@Nonnull final LiveData<?>[] liveDatas, @Nonnull final CombinedLiveData.Evaluator<R> evaluator) {
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
+
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
+            }
+        }
+
+        final CombinedLiveData<R> mediator = new CombinedLiveData<>(liveDatas, evaluator);
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    private static final class TrueCountEvaluator implements CombinedLiveData.Evaluator<Boolean> {
+        private final boolean all;
+
+        private int trueCount;
+
+        TrueCountEvaluator(boolean all) {
+            this.all = all;
+        }
+
+        @Override
+        public Boolean evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Boolean previousResult) {
+            if(changedIndex == FULL_RECOMPUTE) {
+                trueCount = 0;
+                for(Object value : values) {
+                    if(Boolean.TRUE.equals(value)) {
+                        trueCount++;
+                    }
+                }
+            } else {
+                if(Boolean.TRUE.equals(previousValue)) {
+                    trueCount--;
+                }
+                if(Boolean.TRUE.equals(values[changedIndex])) {
+                    trueCount++;
+                }
+            }
+            return all ? trueCount == values.length : trueCount > 0;
+        }
+    }
+
+    private static final class LongSumEvaluator implements CombinedLiveData.Evaluator<Long> {
+        private long sum;
+
+        @Override
+        public Long evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Long previousResult) {
+            if(changedIndex == FULL_RECOMPUTE) {
+                sum = 0L;
+                for(Object value : values) {
+                    if(value != null) {
+                        sum += ((Number) value).longValue();
+                    }
+                }
+            } else {
+                if(previousValue != null) {
+                    sum -= ((Number) previousValue).longValue();
+                }
+                if(values[changedIndex] != null) {
+                    sum += ((Number) values[changedIndex]).longValue();
+                }
+            }
+            return sum;
+        }
+    }
+
+    private static final class DoubleSumEvaluator implements CombinedLiveData.Evaluator<Double> {
+        private double sum;
+
+        // applying deltas accumulates rounding errors, so the sum is recomputed after every N incremental updates
+        private int incrementalUpdates;
+
+        @Override
+        public Double evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Double previousResult) {
+            if(changedIndex == FULL_RECOMPUTE || ++incrementalUpdates >= values.length) {
+                incrementalUpdates = 0;
+                sum = 0.0;
+                for(Object value : values) {
+                    if(value != null) {
+                        sum += ((Number) value).doubleValue();
+                    }
+                }
+            } else {
+                if(previousValue != null) {
+                    sum -= ((Number) previousValue).doubleValue();
+                }
+                if(values[changedIndex] != null) {
+                    sum += ((Number) values[changedIndex]).doubleValue();
+                }
+            }
+            return sum;
+        }
+    }
+
+    private static final class NonNullCountEvaluator implements CombinedLiveData.Evaluator<Integer> {
+        private int count;
+
+        @Override
+        public Integer evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Integer previousResult) {
+            if(changedIndex == FULL_RECOMPUTE) {
+                count = 0;
+                for(Object value : values) {
+                    if(value != null) {
+                        count++;
+                    }
+                }
+            } else {
+                if(previousValue != null) {
+                    count--;
+                }
+                if(values[changedIndex] != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Updates a combined value incrementally as sources are added, removed, or changed. See {@link DynamicCombinedLiveData}.
+     *
+     * @param <T> the type of the source values
+     * @param <R> the type of the combined value
+     */
+    public interface DynamicCombiner<T, R> {
+        @Nullable
+        R onAdded(@Nullable R previousResult, @Nullable T value);
+
+        @Nullable
+        R onRemoved(@Nullable R previousResult, @Nullable T value);
+
+        @Nullable
+        R onChanged(@Nullable R previousResult, @Nullable T previousValue, @Nullable T value);
+    }
+
+    /**
+     * Creates a combined LiveData without sources, which can be attached and detached later without re-subscribing the other sources.
+     *
+     * @param initialResult the combined value when there are no sources
+     * @param combiner      the combiner that updates the combined value
+     */
+    @Nonnull
+    public static <T, R> DynamicCombinedLiveData<T, R> combineDynamic(@Nullable final R initialResult, @Nonnull final DynamicCombiner<T, R> combiner) {
+        if(combiner == null) {
+            throw new NullPointerException("combiner should not be null");
+        }
+
+        return new DynamicCombinedLiveData<>(initialResult, combiner);
+    }
+
+    /**
+     * Combines keyed sources into a map of their latest values. Each change copies only the path to the changed key,
+     * so the emitted {@link PersistentMap} instances share most of their structure. Keys can be attached and detached later.
+     *
+     * @param sources the sources by key
+     */
+    @Nonnull
+    public static <K, V> KeyedCombinedLiveData<K, V> combineKeyed(@Nonnull final Map<? extends K, ? extends LiveData<? extends V>> sources) {
+        if(sources == null) {
+            throw new NullPointerException("sources should not be null");
+        }
+
+        final KeyedCombinedLiveData<K, V> mediator = new KeyedCombinedLiveData<>();
+        for(Map.Entry<? extends K, ? extends LiveData<? extends V>> entry : sources.entrySet()) {
+            if(entry.getKey() == null) {
+                throw new NullPointerException("key should not be null!");
+            }
+            if(entry.getValue() == null) {
+                throw new NullPointerException("sources[" + entry.getKey() + "] should not be null!");
+            }
+            mediator.attach(entry.getKey(), entry.getValue());
+        }
+        return mediator;
+    }
+
+    /**
+     * Computes several outputs at once, see {@link #combineMulti(int, MultiCombiner, LiveData[])}.
+     */
+    public interface MultiCombiner {
+        /**
+         * @param values  the latest value of each source
+         * @param outputs the array to fill with the value of each output
+         */
+        void combine(@Nonnull Object[] values, @Nonnull Object[] outputs);
+    }
+
+    /**
+     * Combines the sources into several outputs with a single combiner, for example to compute multiple projections of a shared intermediate result once.
+     * Each output is exposed as its own LiveData, which only emits when its own value changed.
+     *
+     * @param outputCount the number of outputs
+     * @param combiner    the combiner that fills the outputs
+     * @param liveDatas   the sources
+     */
+    @Nonnull
+    public static CombinedOutputs combineMulti(final int outputCount, @Nonnull final MultiCombiner combiner, @Nonnull final LiveData<?>... liveDatas) {
+        if(outputCount < 1) {
+            throw new IllegalArgumentException("outputCount should be at least 1, but was " + outputCount);
+        }
+        if(combiner == null) {
+            throw new NullPointerException("combiner should not be null");
+        }
+        for(int i = 0; i < liveDatas.length; i++) {
+            final LiveData<?> liveData = liveDatas[i];
+
+            if(liveData == null) {
+                throw new NullPointerException("liveData[" + i + "] should not be null!");
+            }
+        }
+
+        final CombinedLiveData<Object[]> mediator = new CombinedLiveData<>(liveDatas.clone(), new CombinedLiveData.PureEvaluator<Object[]>() {
+            @Override
+            public Object[] evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Object[] previousResult) {
+                final Object[] outputs = new Object[outputCount];
+                combiner.combine(values, outputs);
+                return outputs;
+            }
+        });
+
+        mediator.initialize();
+
+        return new CombinedOutputs(mediator, outputCount);
+    }
+
+    /*
+     * Primitive-specialized combiners, which do not box the arguments and the result of the combiner. The emitted value is still boxed,
+     * but an unchanged result re-emits the previous instance instead of boxing it again. Sources without a value are passed to the combiner as 0 or false.
+     */
+
+    public interface IntCombiner2 {
+        int combine(int t1, int t2);
+    }
+
+    /**
+     * Combines two int sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Integer> combineInt(@Nonnull final LiveData<Integer> f1, @Nonnull final LiveData<Integer> f2, @Nonnull final IntCombiner2 combiner2) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(combiner2 == null) {
+            throw new NullPointerException("combiner2 should not be null");
+        }
+
+        final CombinedLiveData<Integer> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new IntCombinerEvaluator(combiner2));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IntCombiner3 {
+        int combine(int t1, int t2, int t3);
+    }
+
+    /**
+     * Combines three int sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Integer> combineInt(@Nonnull final LiveData<Integer> f1, @Nonnull final LiveData<Integer> f2, @Nonnull final LiveData<Integer> f3, @Nonnull final IntCombiner3 combiner3) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(combiner3 == null) {
+            throw new NullPointerException("combiner3 should not be null");
+        }
+
+        final CombinedLiveData<Integer> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new IntCombinerEvaluator(combiner3));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface IntCombiner4 {
+        int combine(int t1, int t2, int t3, int t4);
+    }
+
+    /**
+     * Combines four int sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Integer> combineInt(@Nonnull final LiveData<Integer> f1, @Nonnull final LiveData<Integer> f2, @Nonnull final LiveData<Integer> f3, @Nonnull final LiveData<Integer> f4, @Nonnull final IntCombiner4 combiner4) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(combiner4 == null) {
+            throw new NullPointerException("combiner4 should not be null");
+        }
+
+        final CombinedLiveData<Integer> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new IntCombinerEvaluator(combiner4));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface LongCombiner2 {
+        long combine(long t1, long t2);
+    }
+
+    /**
+     * Combines two long sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Long> combineLong(@Nonnull final LiveData<Long> f1, @Nonnull final LiveData<Long> f2, @Nonnull final LongCombiner2 combiner2) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(combiner2 == null) {
+            throw new NullPointerException("combiner2 should not be null");
+        }
+
+        final CombinedLiveData<Long> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new LongCombinerEvaluator(combiner2));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface LongCombiner3 {
+        long combine(long t1, long t2, long t3);
+    }
+
+    /**
+     * Combines three long sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Long> combineLong(@Nonnull final LiveData<Long> f1, @Nonnull final LiveData<Long> f2, @Nonnull final LiveData<Long> f3, @Nonnull final LongCombiner3 combiner3) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(combiner3 == null) {
+            throw new NullPointerException("combiner3 should not be null");
+        }
+
+        final CombinedLiveData<Long> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new LongCombinerEvaluator(combiner3));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface LongCombiner4 {
+        long combine(long t1, long t2, long t3, long t4);
+    }
+
+    /**
+     * Combines four long sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Long> combineLong(@Nonnull final LiveData<Long> f1, @Nonnull final LiveData<Long> f2, @Nonnull final LiveData<Long> f3, @Nonnull final LiveData<Long> f4, @Nonnull final LongCombiner4 combiner4) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(combiner4 == null) {
+            throw new NullPointerException("combiner4 should not be null");
+        }
+
+        final CombinedLiveData<Long> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new LongCombinerEvaluator(combiner4));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface DoubleCombiner2 {
+        double combine(double t1, double t2);
+    }
+
+    /**
+     * Combines two double sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Double> combineDouble(@Nonnull final LiveData<Double> f1, @Nonnull final LiveData<Double> f2, @Nonnull final DoubleCombiner2 combiner2) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(combiner2 == null) {
+            throw new NullPointerException("combiner2 should not be null");
+        }
+
+        final CombinedLiveData<Double> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new DoubleCombinerEvaluator(combiner2));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface DoubleCombiner3 {
+        double combine(double t1, double t2, double t3);
+    }
+
+    /**
+     * Combines three double sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Double> combineDouble(@Nonnull final LiveData<Double> f1, @Nonnull final LiveData<Double> f2, @Nonnull final LiveData<Double> f3, @Nonnull final DoubleCombiner3 combiner3) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(combiner3 == null) {
+            throw new NullPointerException("combiner3 should not be null");
+        }
+
+        final CombinedLiveData<Double> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new DoubleCombinerEvaluator(combiner3));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface DoubleCombiner4 {
+        double combine(double t1, double t2, double t3, double t4);
+    }
+
+    /**
+     * Combines four double sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Double> combineDouble(@Nonnull final LiveData<Double> f1, @Nonnull final LiveData<Double> f2, @Nonnull final LiveData<Double> f3, @Nonnull final LiveData<Double> f4, @Nonnull final DoubleCombiner4 combiner4) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(combiner4 == null) {
+            throw new NullPointerException("combiner4 should not be null");
+        }
+
+        final CombinedLiveData<Double> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new DoubleCombinerEvaluator(combiner4));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface BooleanCombiner2 {
+        boolean combine(boolean t1, boolean t2);
+    }
+
+    /**
+     * Combines two boolean sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Boolean> combineBoolean(@Nonnull final LiveData<Boolean> f1, @Nonnull final LiveData<Boolean> f2, @Nonnull final BooleanCombiner2 combiner2) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(combiner2 == null) {
+            throw new NullPointerException("combiner2 should not be null");
+        }
+
+        final CombinedLiveData<Boolean> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2}, new BooleanCombinerEvaluator(combiner2));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface BooleanCombiner3 {
+        boolean combine(boolean t1, boolean t2, boolean t3);
+    }
+
+    /**
+     * Combines three boolean sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Boolean> combineBoolean(@Nonnull final LiveData<Boolean> f1, @Nonnull final LiveData<Boolean> f2, @Nonnull final LiveData<Boolean> f3, @Nonnull final BooleanCombiner3 combiner3) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(combiner3 == null) {
+            throw new NullPointerException("combiner3 should not be null");
+        }
+
+        final CombinedLiveData<Boolean> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3}, new BooleanCombinerEvaluator(combiner3));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    public interface BooleanCombiner4 {
+        boolean combine(boolean t1, boolean t2, boolean t3, boolean t4);
+    }
+
+    /**
+     * Combines four boolean sources with a primitive combiner. The combined value is emitted boxed, like with {@link #combine(LiveData, LiveData, Combiner2)}:
+     * apply {@link CombinedLiveData#distinctUntilChanged()} to skip unchanged results.
+     */
+    @Nonnull
+    public static CombinedLiveData<Boolean> combineBoolean(@Nonnull final LiveData<Boolean> f1, @Nonnull final LiveData<Boolean> f2, @Nonnull final LiveData<Boolean> f3, @Nonnull final LiveData<Boolean> f4, @Nonnull final BooleanCombiner4 combiner4) {
+        if(f1 == null) {
+            throw new NullPointerException("f1 should not be null");
+        }
+        if(f2 == null) {
+            throw new NullPointerException("f2 should not be null");
+        }
+        if(f3 == null) {
+            throw new NullPointerException("f3 should not be null");
+        }
+        if(f4 == null) {
+            throw new NullPointerException("f4 should not be null");
+        }
+        if(combiner4 == null) {
+            throw new NullPointerException("combiner4 should not be null");
+        }
+
+        final CombinedLiveData<Boolean> mediator = new CombinedLiveData<>(new LiveData<?>[] {f1, f2, f3, f4}, new BooleanCombinerEvaluator(combiner4));
+
+        mediator.initialize();
+
+        return mediator;
+    }
+
+    private static final class IntCombinerEvaluator implements CombinedLiveData.Evaluator<Integer> {
+        private final Object combiner;
+
+        private boolean hasResult;
+        private int lastResult;
+
+        IntCombinerEvaluator(@Nonnull Object combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        public Integer evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Integer previousResult) {
+            final int result;
+            switch(values.length) {
+                case 2:
+                    result = ((IntCombiner2) combiner).combine(unbox(values[0]), unbox(values[1]));
+                    break;
+                case 3:
+                    result = ((IntCombiner3) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]));
+                    break;
+                case 4:
+                    result = ((IntCombiner4) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]), unbox(values[3]));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected number of sources: " + values.length);
+            }
+            if(hasResult && previousResult != null && result == lastResult) {
+                return previousResult; // the same instance, instead of boxing the result again
+            }
+            hasResult = true;
+            lastResult = result;
+            return result;
+        }
+
+        private static int unbox(@Nullable Object value) {
+            return value == null ? 0 : ((Integer) value).intValue();
+        }
+    }
+
+    private static final class LongCombinerEvaluator implements CombinedLiveData.Evaluator<Long> {
+        private final Object combiner;
+
+        private boolean hasResult;
+        private long lastResult;
+
+        LongCombinerEvaluator(@Nonnull Object combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        public Long evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Long previousResult) {
+            final long result;
+            switch(values.length) {
+                case 2:
+                    result = ((LongCombiner2) combiner).combine(unbox(values[0]), unbox(values[1]));
+                    break;
+                case 3:
+                    result = ((LongCombiner3) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]));
+                    break;
+                case 4:
+                    result = ((LongCombiner4) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]), unbox(values[3]));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected number of sources: " + values.length);
+            }
+            if(hasResult && previousResult != null && result == lastResult) {
+                return previousResult; // the same instance, instead of boxing the result again
+            }
+            hasResult = true;
+            lastResult = result;
+            return result;
+        }
+
+        private static long unbox(@Nullable Object value) {
+            return value == null ? 0L : ((Long) value).longValue();
+        }
+    }
+
+    private static final class DoubleCombinerEvaluator implements CombinedLiveData.Evaluator<Double> {
+        private final Object combiner;
+
+        private boolean hasResult;
+        private double lastResult;
+
+        DoubleCombinerEvaluator(@Nonnull Object combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        public Double evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Double previousResult) {
+            final double result;
+            switch(values.length) {
+                case 2:
+                    result = ((DoubleCombiner2) combiner).combine(unbox(values[0]), unbox(values[1]));
+                    break;
+                case 3:
+                    result = ((DoubleCombiner3) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]));
+                    break;
+                case 4:
+                    result = ((DoubleCombiner4) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]), unbox(values[3]));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected number of sources: " + values.length);
+            }
+            if(hasResult && previousResult != null && Double.doubleToLongBits(result) == Double.doubleToLongBits(lastResult)) {
+                return previousResult; // the same instance, instead of boxing the result again
+            }
+            hasResult = true;
+            lastResult = result;
+            return result;
+        }
+
+        private static double unbox(@Nullable Object value) {
+            return value == null ? 0.0 : ((Double) value).doubleValue();
+        }
+    }
+
+    private static final class BooleanCombinerEvaluator implements CombinedLiveData.Evaluator<Boolean> {
+        private final Object combiner;
+
+        private boolean hasResult;
+        private boolean lastResult;
+
+        BooleanCombinerEvaluator(@Nonnull Object combiner) {
+            this.combiner = combiner;
+        }
+
+        @Override
+        public Boolean evaluate(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Boolean previousResult) {
+            final boolean result;
+            switch(values.length) {
+                case 2:
+                    result = ((BooleanCombiner2) combiner).combine(unbox(values[0]), unbox(values[1]));
+                    break;
+                case 3:
+                    result = ((BooleanCombiner3) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]));
+                    break;
+                case 4:
+                    result = ((BooleanCombiner4) combiner).combine(unbox(values[0]), unbox(values[1]), unbox(values[2]), unbox(values[3]));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected number of sources: " + values.length);
+            }
+            if(hasResult && previousResult != null && result == lastResult) {
+                return previousResult; // the same instance, instead of boxing the result again
+            }
+            hasResult = true;
+            lastResult = result;
+            return result;
+        }
+
+        private static boolean unbox(@Nullable Object value) {
+            return value == null ? false : ((Boolean) value).booleanValue();
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable hash array mapped trie. {@link #plus(Object, Object)} and {@link #minus(Object)} return a new map,
+ * which shares every part of the trie that was not affected by the change with the original map.
+ *
+ * The mutating methods of {@link java.util.Map} throw {@link UnsupportedOperationException}. Keys must not be null.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final PersistentMap<Object, Object> EMPTY = new PersistentMap<>(Node.EMPTY, 0);
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final Node root;
+    private final int size;
+
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentMap(@Nonnull Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(@Nullable Object key) {
+        if(key == null) {
+            return null;
+        }
+        final Object value = root.find(0, hash(key), key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return key != null && root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    /**
+     * Returns a map that also contains the given mapping. Returns this map if the key is already mapped to the same value instance.
+     */
+    @Nonnull
+    public PersistentMap<K, V> plus(@Nonnull K key, @Nullable V value) {
+        if(key == null) {
+            throw new NullPointerException("key should not be null");
+        }
+        final boolean[] addedLeaf = new boolean[1];
+        final Node newRoot = root.plus(0, hash(key), key, value, addedLeaf);
+        if(newRoot == root) {
+            return this;
+        }
+        return new PersistentMap<>(newRoot, addedLeaf[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the mapping of the given key. Returns this map if the key is not mapped.
+     */
+    @Nonnull
+    public PersistentMap<K, V> minus(@Nullable Object key) {
+        if(key == null) {
+            return this;
+        }
+        final Node newRoot = root.minus(0, hash(key), key);
+        if(newRoot == root) {
+            return this;
+        }
+        return new PersistentMap<>(newRoot != null ? newRoot : Node.EMPTY, size - 1);
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if(entrySet == null) {
+            entrySet = new AbstractSet<Entry<K, V>>() {
+                @Nonnull
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator<>(root);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private static int hash(@Nonnull Object key) {
+        final int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Both kinds of nodes store key-value pairs next to each other in their array.
+     * In a bitmap node, a null key means that the value is a child node.
+     */
+    private abstract static class Node {
+        static final Node EMPTY = new BitmapNode(0, new Object[0]);
+
+        final Object[] array;
+
+        Node(@Nonnull Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, @Nonnull Object key);
+
+        abstract Node plus(int shift, int hash, @Nonnull Object key, @Nullable Object value, @Nonnull boolean[] addedLeaf);
+
+        // returns null if the node became empty
+        @Nullable
+        abstract Node minus(int shift, int hash, @Nonnull Object key);
+    }
+
+    private static final class BitmapNode extends Node {
+        private final int bitmap;
+
+        BitmapNode(int bitmap, @Nonnull Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & 0x1f);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, @Nonnull Object key) {
+            final int bit = bit(hash, shift);
+            if((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            final int index = index(bit);
+            final Object keyOrNull = array[2 * index];
+            final Object valueOrNode = array[2 * index + 1];
+            if(keyOrNull == null) {
+                return ((Node) valueOrNode).find(shift + 5, hash, key);
+            }
+            return key.equals(keyOrNull) ? valueOrNode : NOT_FOUND;
+        }
+
+        @Override
+        Node plus(int shift, int hash, @Nonnull Object key, @Nullable Object value, @Nonnull boolean[] addedLeaf) {
+            final int bit = bit(hash, shift);
+            final int index = index(bit);
+            if((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, 2 * index);
+                newArray[2 * index] = key;
+                newArray[2 * index + 1] = value;
+                System.arraycopy(array, 2 * index, newArray, 2 * (index + 1), array.length - 2 * index);
+                addedLeaf[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            final Object keyOrNull = array[2 * index];
+            final Object valueOrNode = array[2 * index + 1];
+            if(keyOrNull == null) {
+                final Node child = (Node) valueOrNode;
+                final Node newChild = child.plus(shift + 5, hash, key, value, addedLeaf);
+                if(newChild == child) {
+                    return this;
+                }
+                return new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, newChild));
+            }
+            if(key.equals(keyOrNull)) {
+                if(value == valueOrNode) {
+                    return this;
+                }
+                return new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, value));
+            }
+
+            addedLeaf[0] = true;
+            final Node child = createNode(shift + 5, keyOrNull, valueOrNode, hash, key, value);
+            final Object[] newArray = cloneAndSet(array, 2 * index + 1, child);
+            newArray[2 * index] = null;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        Node minus(int shift, int hash, @Nonnull Object key) {
+            final int bit = bit(hash, shift);
+            if((bitmap & bit) == 0) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object keyOrNull = array[2 * index];
+            final Object valueOrNode = array[2 * index + 1];
+            if(keyOrNull == null) {
+                final Node child = (Node) valueOrNode;
+                final Node newChild = child.minus(shift + 5, hash, key);
+                if(newChild == child) {
+                    return this;
+                }
+                if(newChild != null) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, 2 * index + 1, newChild));
+                }
+            } else if(!key.equals(keyOrNull)) {
+                return this;
+            }
+
+            if(bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(bitmap ^ bit, removePair(array, index));
+        }
+
+        private static Node createNode(int shift, @Nonnull Object key1, @Nullable Object value1, int hash2, @Nonnull Object key2, @Nullable Object value2) {
+            final int hash1 = hash(key1);
+            if(hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+            }
+            final boolean[] addedLeaf = new boolean[1];
+            return EMPTY.plus(shift, hash1, key1, value1, addedLeaf)
+                    .plus(shift, hash2, key2, value2, addedLeaf);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+        private final int hash;
+
+        CollisionNode(int hash, @Nonnull Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(@Nonnull Object key) {
+            for(int i = 0; i < array.length; i += 2) {
+                if(key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, @Nonnull Object key) {
+            final int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : array[index + 1];
+        }
+
+        @Override
+        Node plus(int shift, int hash, @Nonnull Object key, @Nullable Object value, @Nonnull boolean[] addedLeaf) {
+            if(hash != this.hash) {
+                // nest this node under a bitmap node, so that the new key can be placed next to it
+                return new BitmapNode(1 << ((this.hash >>> shift) & 0x1f), new Object[]{null, this})
+                        .plus(shift, hash, key, value, addedLeaf);
+            }
+            final int index = indexOf(key);
+            if(index >= 0) {
+                if(array[index + 1] == value) {
+                    return this;
+                }
+                return new CollisionNode(hash, cloneAndSet(array, index + 1, value));
+            }
+            final Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            addedLeaf[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node minus(int shift, int hash, @Nonnull Object key) {
+            final int index = indexOf(key);
+            if(index < 0) {
+                return this;
+            }
+            if(array.length == 2) {
+                return null;
+            }
+            return new CollisionNode(hash, removePair(array, index / 2));
+        }
+    }
+
+    private static Object[] cloneAndSet(@Nonnull Object[] array, int index, @Nullable Object value) {
+        final Object[] clone = array.clone();
+        clone[index] = value;
+        return clone;
+    }
+
+    private static Object[] removePair(@Nonnull Object[] array, int pairIndex) {
+        final Object[] newArray = new Object[array.length - 2];
+        System.arraycopy(array, 0, newArray, 0, 2 * pairIndex);
+        System.arraycopy(array, 2 * (pairIndex + 1), newArray, 2 * pairIndex, newArray.length - 2 * pairIndex);
+        return newArray;
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        // 7 levels of bitmap nodes for a 32-bit hash, and a collision node
+        private final Object[][] arrays = new Object[8][];
+        private final int[] positions = new int[8];
+        private int depth;
+
+        private Entry<K, V> next;
+
+        EntryIterator(@Nonnull Node root) {
+            push(root.array);
+            advance();
+        }
+
+        private void push(@Nonnull Object[] array) {
+            arrays[depth] = array;
+            positions[depth] = 0;
+            depth++;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while(depth > 0) {
+                final Object[] array = arrays[depth - 1];
+                final int position = positions[depth - 1];
+                if(position >= array.length) {
+                    arrays[--depth] = null;
+                    continue;
+                }
+                positions[depth - 1] = position + 2;
+
+                final Object keyOrNull = array[position];
+                final Object valueOrNode = array[position + 1];
+                if(keyOrNull == null) {
+                    push(((Node) valueOrNode).array);
+                } else {
+                    next = new SimpleImmutableEntry<>((K) keyOrNull, (V) valueOrNode);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if(next == null) {
+                throw new NoSuchElementException();
+            }
+            final Entry<K, V> entry = next;
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Collects the combined LiveData that have pending changes, and evaluates them in dependency order.
+ *
+ * A node that depends on other combined LiveData is only evaluated once it is settled (see {@link CombinedLiveData#isSettled()}).
+ * Until then it is deferred, and retried whenever a change was delivered, so that it is evaluated once per upstream change, with consistent values.
+ *
+ * The combined LiveData that are not ordered by depth ({@link KeyedCombinedLiveData}, {@link DynamicCombinedLiveData} and {@link CombineGraph})
+ * hold back their emissions while a transaction is open, and emit once when it is committed, see {@link PendingEmission}.
+ *
+ * Only accessed on the main thread.
+ */
+final class Propagation {
+    /**
+     * An emission that was held back while a transaction was open.
+     */
+    interface PendingEmission {
+        void emit();
+    }
+
+    private static final PriorityQueue<CombinedLiveData<?>> queue = new PriorityQueue<>(16, new Comparator<CombinedLiveData<?>>() {
+        @Override
+        public int compare(CombinedLiveData<?> first, CombinedLiveData<?> second) {
+            return first.depth < second.depth ? -1 : (first.depth == second.depth ? 0 : 1);
+        }
+    });
+
+    // nodes whose sources were still propagating a change when they were polled
+    private static final List<CombinedLiveData<?>> deferred = new ArrayList<>();
+
+    private static final List<PendingEmission> pendingEmissions = new ArrayList<>();
+
+    private static int transactionDepth;
+    private static boolean flushing;
+    private static int settledCheck;
+
+    private Propagation() {
+    }
+
+    /**
+     * While a transaction is open or the pending changes are being flushed, combined LiveData only schedule themselves instead of evaluating.
+     */
+    static boolean isDeferring() {
+        return transactionDepth > 0 || flushing;
+    }
+
+    static boolean isInTransaction() {
+        return transactionDepth > 0;
+    }
+
+    /**
+     * Emits the pending emission when the outermost transaction is committed. Must only be called while a transaction is open, once per emission.
+     */
+    static void deferEmission(@Nonnull PendingEmission pendingEmission) {
+        pendingEmissions.add(pendingEmission);
+    }
+
+    static void schedule(@Nonnull CombinedLiveData<?> node) {
+        if(!node.scheduled) {
+            node.scheduled = true;
+            queue.add(node);
+        }
+    }
+
+    static void beginTransaction() {
+        transactionDepth++;
+    }
+
+    static void commitTransaction() {
+        if(transactionDepth == 0) {
+            throw new IllegalStateException("There is no transaction to commit");
+        }
+        if(transactionDepth == 1) {
+            // emitted while the transaction is still open, so that the combined LiveData observing them only record the change
+            emitPending();
+        }
+        transactionDepth--;
+        flush();
+    }
+
+    private static void emitPending() {
+        try {
+            // an emission can cause further emissions to be held back, which are appended and emitted in the same pass
+            for(int i = 0; i < pendingEmissions.size(); i++) {
+                pendingEmissions.get(i).emit();
+            }
+        } finally {
+            pendingEmissions.clear();
+        }
+    }
+
+    static int nextSettledCheck() {
+        return ++settledCheck;
+    }
+
+    static void flush() {
+        if(isDeferring()) {
+            return;
+        }
+        flushing = true;
+        try {
+            // a node is only evaluated after every node it depends on, so it is evaluated at most once
+            while(true) {
+                final CombinedLiveData<?> node = queue.poll();
+                if(node == null) {
+                    if(rescheduleSettled()) {
+                        continue;
+                    }
+                    break;
+                }
+                node.scheduled = false;
+                if(!node.isDirty()) {
+                    continue;
+                }
+                if(node.depth == 1 || node.isSettled()) {
+                    node.evaluatePending();
+                } else if(!node.deferred) {
+                    node.deferred = true;
+                    deferred.add(node);
+                }
+            }
+        } finally {
+            flushing = false;
+        }
+    }
+
+    /**
+     * Called after a change was delivered to a combined LiveData, which might have settled a deferred node.
+     */
+    static void retryDeferred() {
+        if(!deferred.isEmpty()) {
+            flush();
+        }
+    }
+
+    static void cancelDeferred(@Nonnull CombinedLiveData<?> node) {
+        if(node.deferred) {
+            node.deferred = false;
+            deferred.remove(node);
+        }
+    }
+
+    private static boolean rescheduleSettled() {
+        boolean rescheduled = false;
+        for(int i = deferred.size() - 1; i >= 0; i--) {
+            final CombinedLiveData<?> node = deferred.get(i);
+            if(!node.isDirty()) {
+                node.deferred = false;
+                deferred.remove(i);
+            } else if(node.isSettled()) {
+                node.deferred = false;
+                deferred.remove(i);
+                schedule(node);
+                rescheduled = true;
+            }
+        }
+        return rescheduled;
+    }
+}
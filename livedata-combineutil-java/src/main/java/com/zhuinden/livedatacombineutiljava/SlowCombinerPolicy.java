@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Detects combiners that take longer than a threshold on the main thread, similarly to StrictMode.
+ *
+ * While a policy is installed, every combined LiveData created by {@link LiveDataCombineUtil} captures the stack trace of its creation,
+ * which is the cause of the reported {@link SlowCombinerViolation}. Combiners that run on an executor are not checked.
+ * Must be used on the main thread.
+ */
+public final class SlowCombinerPolicy {
+    /**
+     * Receives the violations of the policy, see {@link Builder#penaltyListener(Listener)}.
+     */
+    public interface Listener {
+        void onViolation(@Nonnull SlowCombinerViolation violation);
+    }
+
+    private static final Logger LOGGER = Logger.getLogger("LiveDataCombineUtil");
+
+    // read on every evaluation, null while disabled
+    static SlowCombinerPolicy installed;
+
+    final long thresholdNanos;
+    private final boolean penaltyLog;
+    private final Listener penaltyListener;
+    private final boolean penaltyThrow;
+
+    private SlowCombinerPolicy(@Nonnull Builder builder) {
+        this.thresholdNanos = builder.thresholdNanos;
+        this.penaltyLog = builder.penaltyLog || (builder.penaltyListener == null && !builder.penaltyThrow);
+        this.penaltyListener = builder.penaltyListener;
+        this.penaltyThrow = builder.penaltyThrow;
+    }
+
+    public static void install(@Nonnull SlowCombinerPolicy policy) {
+        if(policy == null) {
+            throw new NullPointerException("policy should not be null");
+        }
+        installed = policy;
+    }
+
+    public static void uninstall() {
+        installed = null;
+    }
+
+    void onViolation(@Nullable String name, long durationNanos, @Nullable Throwable creationSite) {
+        final SlowCombinerViolation violation = new SlowCombinerViolation(name, durationNanos, thresholdNanos, creationSite);
+        if(penaltyLog) {
+            LOGGER.log(Level.WARNING, violation.getMessage(), violation);
+        }
+        if(penaltyListener != null) {
+            penaltyListener.onViolation(violation);
+        }
+        if(penaltyThrow) {
+            throw violation;
+        }
+    }
+
+    public static final class Builder {
+        private long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(16);
+        private boolean penaltyLog;
+        private Listener penaltyListener;
+        private boolean penaltyThrow;
+
+        /**
+         * Sets the time a combiner can take before it is reported. Defaults to 16 milliseconds.
+         */
+        @Nonnull
+        public Builder threshold(long threshold, @Nonnull TimeUnit unit) {
+            if(unit == null) {
+                throw new NullPointerException("unit should not be null");
+            }
+            if(threshold < 0) {
+                throw new IllegalArgumentException("threshold should not be negative, but was " + threshold);
+            }
+            this.thresholdNanos = unit.toNanos(threshold);
+            return this;
+        }
+
+        /**
+         * Logs the violations as warnings. This is the default if no other penalty is set.
+         */
+        @Nonnull
+        public Builder penaltyLog() {
+            this.penaltyLog = true;
+            return this;
+        }
+
+        /**
+         * Passes the violations to the listener.
+         */
+        @Nonnull
+        public Builder penaltyListener(@Nonnull Listener listener) {
+            if(listener == null) {
+                throw new NullPointerException("listener should not be null");
+            }
+            this.penaltyListener = listener;
+            return this;
+        }
+
+        /**
+         * Throws the violations from the evaluation of the combiner, to fail tests or to crash debug builds. Not meant for release builds.
+         *
+         * The violation is thrown while a LiveData is dispatching, usually the source that changed. LiveData does not recover from an
+         * exception thrown by an observer: it is left in its dispatching state and does not notify its observers anymore.
+         */
+        @Nonnull
+        public Builder penaltyThrow() {
+            this.penaltyThrow = true;
+            return this;
+        }
+
+        @Nonnull
+        public SlowCombinerPolicy build() {
+            return new SlowCombinerPolicy(this);
+        }
+    }
+}
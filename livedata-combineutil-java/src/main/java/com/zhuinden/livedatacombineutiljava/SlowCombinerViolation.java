@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reported by {@link SlowCombinerPolicy} when a combiner took longer than the threshold. The cause is the stack trace of the creation of the combined LiveData.
+ */
+public final class SlowCombinerViolation extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final long durationNanos;
+
+    SlowCombinerViolation(@Nullable String name, long durationNanos, long thresholdNanos, @Nullable Throwable creationSite) {
+        super("The combiner of " + (name != null ? "[" + name + "]" : "a combined LiveData")
+                + " took " + TimeUnit.NANOSECONDS.toMillis(durationNanos) + " ms, over the threshold of " + TimeUnit.NANOSECONDS.toMillis(thresholdNanos) + " ms", creationSite);
+        this.name = name;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Returns the name set with {@link CombinedLiveData#named(String)}, or null.
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 Gabor Varadi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.zhuinden.livedatacombineutiljava;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+
+/**
+ * Observes each source shared by multiplexed combined LiveData only once, and fans its values out to the dependent observers.
+ *
+ * Only accessed on the main thread, from {@link CombinedLiveData#onActive()} and {@link CombinedLiveData#onInactive()}.
+ */
+final class SourceMultiplexer {
+    /**
+     * Returned by {@link #getValue(LiveData)} when the source is not multiplexed, or has not emitted to its dependents yet.
+     */
+    static final Object NO_VALUE = new Object();
+
+    private static final Map<LiveData<?>, Fanout> fanouts = new IdentityHashMap<>();
+
+    private SourceMultiplexer() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static void register(@Nonnull LiveData<?> source, @Nonnull Observer<Object> dependent) {
+        Fanout fanout = fanouts.get(source);
+        if(fanout != null) {
+            fanout.add(dependent);
+            return;
+        }
+        fanout = new Fanout();
+        fanout.add(dependent);
+        fanouts.put(source, fanout);
+        ((LiveData<Object>) source).observeForever(fanout);
+    }
+
+    static void unregister(@Nonnull LiveData<?> source, @Nonnull Observer<Object> dependent) {
+        final Fanout fanout = fanouts.get(source);
+        if(fanout == null) {
+            return;
+        }
+        fanout.remove(dependent);
+        if(fanout.isEmpty()) {
+            fanouts.remove(source);
+            source.removeObserver(fanout);
+        }
+    }
+
+    /**
+     * The latest value emitted to the dependents of the source. A newly registered dependent is considered to have seen it,
+     * so this is the value it should pick up, rather than {@link LiveData#getValue()}, which can already hold a value that is yet to be emitted.
+     *
+     * @param source the source
+     * @return the latest emitted value, or {@link #NO_VALUE}
+     */
+    @Nullable
+    static Object getValue(@Nonnull LiveData<?> source) {
+        final Fanout fanout = fanouts.get(source);
+        if(fanout == null || fanout.version == 0) {
+            return NO_VALUE;
+        }
+        return fanout.value;
+    }
+
+    private static final class Fanout implements Observer<Object> {
+        private Object[] dependents = new Object[4];
+        // the version of the latest value emitted to each dependent, like the version of the observers of LiveData
+        private int[] versions = new int[4];
+        private int size;
+        private int removedCount;
+
+        private boolean dispatching;
+        private int version;
+        private Object value;
+
+        void add(@Nonnull Observer<Object> dependent) {
+            if(size == dependents.length) {
+                if(!dispatching) {
+                    compact(); // the indices must stay stable while dispatching
+                }
+                if(size == dependents.length) {
+                    final Object[] newDependents = new Object[size * 2];
+                    System.arraycopy(dependents, 0, newDependents, 0, size);
+                    dependents = newDependents;
+                    final int[] newVersions = new int[size * 2];
+                    System.arraycopy(versions, 0, newVersions, 0, size);
+                    versions = newVersions;
+                }
+            }
+            versions[size] = version;
+            dependents[size++] = dependent;
+        }
+
+        void remove(@Nonnull Observer<Object> dependent) {
+            for(int i = 0; i < size; i++) {
+                if(dependents[i] == dependent) {
+                    dependents[i] = null; // compacted after the current dispatch, so that the indices stay stable
+                    removedCount++;
+                    if(!dispatching) {
+                        compact();
+                    }
+                    return;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return size == removedCount;
+        }
+
+        private void compact() {
+            if(removedCount == 0) {
+                return;
+            }
+            int newSize = 0;
+            for(int i = 0; i < size; i++) {
+                if(dependents[i] != null) {
+                    versions[newSize] = versions[i];
+                    dependents[newSize++] = dependents[i];
+                }
+            }
+            for(int i = newSize; i < size; i++) {
+                dependents[i] = null;
+            }
+            size = newSize;
+            removedCount = 0;
+        }
+
+        @Override
+        public void onChanged(@Nullable Object newValue) {
+            // LiveData does not call an observer re-entrantly: a value set by a dependent is emitted once this dispatch returns
+            value = newValue;
+            final int currentVersion = ++version;
+            dispatching = true;
+            try {
+                final int count = size;
+                for(int i = 0; i < count; i++) {
+                    @SuppressWarnings("unchecked")
+                    final Observer<Object> dependent = (Observer<Object>) dependents[i];
+                    if(dependent != null && versions[i] != currentVersion) {
+                        versions[i] = currentVersion;
+                        dependent.onChanged(newValue);
+                    }
+                }
+            } finally {
+                dispatching = false;
+                compact();
+            }
+        }
+    }
+}
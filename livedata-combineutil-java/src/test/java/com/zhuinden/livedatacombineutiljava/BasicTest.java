@@ -1,18 +1,38 @@
 package com.zhuinden.livedatacombineutiljava;
 
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import androidx.arch.core.executor.ArchTaskExecutor;
+import androidx.arch.core.executor.TaskExecutor;
 import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.arch.core.util.Function;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Observer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.Assume.assumeTrue;
 
 public class BasicTest {
     @Rule
@@ -928,4 +948,1797 @@ public class BasicTest {
 
         liveData.removeObserver(observer);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void batchedCombineEvaluatesOncePerMainThreadCycle() {
+        final List<Runnable> pendingTasks = new ArrayList<>();
+
+        ArchTaskExecutor.getInstance().setDelegate(new TaskExecutor() {
+            @Override
+            public void executeOnDiskIO(@Nonnull Runnable runnable) {
+                runnable.run();
+            }
+
+            @Override
+            public void postToMainThread(@Nonnull Runnable runnable) {
+                pendingTasks.add(runnable);
+            }
+
+            @Override
+            public boolean isMainThread() {
+                return true;
+            }
+        });
+
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+        final MutableLiveData<C> c = new MutableLiveData<>(new C("c1"));
+
+        final AtomicInteger combineCount = new AtomicInteger();
+        final List<String> emissions = new ArrayList<>();
+
+        LiveData<String> liveData = LiveDataCombineUtil.combine(a, b, c, new LiveDataCombineUtil.Combiner3<A, B, C, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b, @Nullable C c) {
+                combineCount.incrementAndGet();
+                return a.getBlah() + b.getBlah() + c.getBlah();
+            }
+        }).batched();
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+                emissions.add(s);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        while(!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+        combineCount.set(0);
+        emissions.clear();
+
+        a.setValue(new A("a2"));
+        b.setValue(new B("b2"));
+        c.setValue(new C("c2"));
+
+        assertThat(combineCount.get()).isEqualTo(0);
+        assertThat(pendingTasks).hasSize(1);
+
+        pendingTasks.remove(0).run();
+
+        assertThat(combineCount.get()).isEqualTo(1);
+        assertThat(emissions).containsExactly("a2b2c2");
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineArrayUpdatesEverySlotOfTheSameSource() {
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        LiveData<Object[]> liveData = LiveDataCombineUtil.combineArray(a, b, a);
+
+        final Observer<Object[]> observer = new Observer<Object[]>() {
+            @Override
+            public void onChanged(Object[] objects) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(liveData.getValue()).containsExactly(new A("a1"), new B("b1"), new A("a1"));
+
+        a.setValue(new A("a2"));
+
+        assertThat(liveData.getValue()).containsExactly(new A("a2"), new B("b1"), new A("a2"));
+
+        b.setValue(new B("b2"));
+
+        assertThat(liveData.getValue()).containsExactly(new A("a2"), new B("b2"), new A("a2"));
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void combineArraySnapshotDoesNotAllocateAnArrayPerEmission() {
+        assumeTrue("per-thread allocation counters are not available on this JVM", isAllocatedBytesCounterAvailable());
+
+        final int width = 256;
+        final int emissions = 2000;
+
+        final MutableLiveData<A>[] sources = new MutableLiveData[width];
+        for(int i = 0; i < width; i++) {
+            sources[i] = new MutableLiveData<>(new A("a" + i));
+        }
+
+        final long snapshotBytesPerEmission = measureAllocatedBytesPerEmission(LiveDataCombineUtil.combineArraySnapshot(sources), sources[0], emissions);
+
+        // an Object[256] alone is at least 1 KB, the rest of a dispatch is a few small iterators.
+        assertThat(snapshotBytesPerEmission).isLessThan(512);
+    }
+
+    @Test
+    public void arrayFactoriesDoNotKeepTheCallersArray() {
+        final MutableLiveData<String> a = new MutableLiveData<>("a");
+        final MutableLiveData<String> b = new MutableLiveData<>("b");
+        final MutableLiveData<String> other = new MutableLiveData<>("other");
+
+        final LiveData<?>[] arraySources = new LiveData<?>[] {a, b};
+        final CombinedLiveData<Object[]> array = LiveDataCombineUtil.combineArrayLazy(arraySources);
+
+        @SuppressWarnings("unchecked")
+        final LiveData<String>[] reduceSources = new LiveData[] {a, b};
+        final CombinedLiveData<String> reduce = LiveDataCombineUtil.combineReduce(reduceSources, "", new LiveDataCombineUtil.Reducer<String>() {
+            @Nullable
+            @Override
+            public String reduce(@Nullable String first, @Nullable String second) {
+                return first + second;
+            }
+        });
+
+        arraySources[1] = other;
+        reduceSources[1] = other;
+
+        // the lazy evaluation and the fused operator both read the sources after the caller changed its array
+        final LiveData<String> reduced = reduce.map(new Function<String, String>() {
+            @Override
+            public String apply(String input) {
+                return input;
+            }
+        });
+
+        assertThat(array.getValue()).containsExactly("a", "b");
+
+        final Observer<Object> observer = new Observer<Object>() {
+            @Override
+            public void onChanged(Object value) {
+            }
+        };
+        array.observeForever(observer);
+        reduced.observeForever(observer);
+
+        b.setValue("b2");
+
+        assertThat(array.getValue()).containsExactly("a", "b2");
+        assertThat(reduced.getValue()).isEqualTo("ab2");
+        assertThat(other.hasObservers()).isFalse();
+
+        array.removeObserver(observer);
+        reduced.removeObserver(observer);
+    }
+
+    @Test
+    public void combineArraySnapshotCopyIsNotAffectedByLaterEmissions() {
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        LiveData<ArraySnapshot> liveData = LiveDataCombineUtil.combineArraySnapshot(a, b);
+
+        final List<List<Object>> copies = new ArrayList<>();
+        final Observer<ArraySnapshot> observer = new Observer<ArraySnapshot>() {
+            @Override
+            public void onChanged(ArraySnapshot snapshot) {
+                copies.add(snapshot.copy());
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        a.setValue(new A("a2"));
+
+        assertThat(liveData.getValue()).containsExactly(new A("a2"), new B("b1"));
+        assertThat(copies.get(0)).containsExactly(new A("a1"), new B("b1"));
+        assertThat(copies.get(copies.size() - 1)).containsExactly(new A("a2"), new B("b1"));
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void distinctInputsSkipsUnchangedSourceValues() {
+        final A a1 = new A("a1");
+        final MutableLiveData<A> a = new MutableLiveData<>(a1);
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        final AtomicInteger combineCount = new AtomicInteger();
+
+        LiveData<String> liveData = LiveDataCombineUtil.combine(a, b, new LiveDataCombineUtil.Combiner2<A, B, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b) {
+                combineCount.incrementAndGet();
+                return a.getBlah() + b.getBlah();
+            }
+        }).distinctInputs(LiveDataCombineUtil.byEquals());
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(combineCount.get()).isEqualTo(1);
+
+        a.setValue(a1);
+        b.setValue(new B("b1"));
+
+        assertThat(combineCount.get()).isEqualTo(1);
+
+        a.setValue(new A("a2"));
+
+        assertThat(combineCount.get()).isEqualTo(2);
+        assertThat(liveData.getValue()).isEqualTo("a2b1");
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void distinctUntilChangedSuppressesEqualResults() {
+        final MutableLiveData<Float> a = new MutableLiveData<>(1.0f);
+        final MutableLiveData<Float> b = new MutableLiveData<>(2.0f);
+
+        LiveData<Float> liveData = LiveDataCombineUtil.combine(a, b, new LiveDataCombineUtil.Combiner2<Float, Float, Float>() {
+            @Nullable
+            @Override
+            public Float combine(@Nullable Float a, @Nullable Float b) {
+                return a + b;
+            }
+        }).distinctUntilChanged(new LiveDataCombineUtil.Equality<Float>() {
+            @Override
+            public boolean isEqual(@Nullable Float previous, @Nullable Float current) {
+                return Math.abs(previous - current) < 0.01f;
+            }
+        });
+
+        final List<Float> emissions = new ArrayList<>();
+        final Observer<Float> observer = new Observer<Float>() {
+            @Override
+            public void onChanged(Float value) {
+                emissions.add(value);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        a.setValue(1.001f);
+        b.setValue(2.001f);
+
+        assertThat(emissions).containsExactly(3.0f);
+
+        a.setValue(2.0f);
+
+        assertThat(emissions).containsExactly(3.0f, 4.001f);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void incrementalCombinerReceivesChangedIndexAndPreviousValues() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+        final MutableLiveData<Integer> c = new MutableLiveData<>(3);
+
+        final List<Integer> changedIndices = new ArrayList<>();
+
+        LiveData<Integer> liveData = LiveDataCombineUtil.combineArrayIncremental(new LiveDataCombineUtil.IncrementalArrayCombiner<Integer>() {
+            @Nullable
+            @Override
+            public Integer combine(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Integer previousResult) {
+                changedIndices.add(changedIndex);
+                if(changedIndex == LiveDataCombineUtil.FULL_RECOMPUTE) {
+                    int sum = 0;
+                    for(Object value : values) {
+                        sum += (Integer) value;
+                    }
+                    return sum;
+                }
+                return previousResult - (Integer) previousValue + (Integer) values[changedIndex];
+            }
+        }, a, b, c).distinctInputs();
+
+        final Observer<Integer> observer = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer integer) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(liveData.getValue()).isEqualTo(6);
+
+        b.setValue(10);
+
+        assertThat(liveData.getValue()).isEqualTo(14);
+
+        c.setValue(0);
+
+        assertThat(liveData.getValue()).isEqualTo(11);
+        assertThat(changedIndices).containsExactly(LiveDataCombineUtil.FULL_RECOMPUTE, 1, 2);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineAsyncOnlyEmitsTheLatestResult() {
+        final List<Runnable> backgroundTasks = new ArrayList<>();
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(@Nonnull Runnable command) {
+                backgroundTasks.add(command);
+            }
+        };
+
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        LiveData<String> liveData = LiveDataCombineUtil.combineAsync(a, b, executor, new LiveDataCombineUtil.Combiner2<A, B, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b) {
+                return a.getBlah() + b.getBlah();
+            }
+        });
+
+        final List<String> emissions = new ArrayList<>();
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+                emissions.add(s);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        a.setValue(new A("a2"));
+        b.setValue(new B("b2"));
+
+        assertThat(emissions).isEmpty();
+
+        for(Runnable task : backgroundTasks) {
+            task.run();
+        }
+        backgroundTasks.clear();
+
+        assertThat(emissions).containsExactly("a2b2");
+
+        a.setValue(new A("a3"));
+        liveData.removeObserver(observer);
+
+        for(Runnable task : backgroundTasks) {
+            task.run();
+        }
+        backgroundTasks.clear();
+
+        assertThat(liveData.getValue()).isEqualTo("a2b2");
+
+        emissions.clear();
+        liveData.observeForever(observer);
+
+        for(Runnable task : backgroundTasks) {
+            task.run();
+        }
+
+        assertThat(emissions).containsExactly("a2b2", "a3b2");
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineLazyEvaluatesOnFirstActivationOrGetValue() {
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        final AtomicInteger combineCount = new AtomicInteger();
+        final LiveDataCombineUtil.Combiner2<A, B, String> combiner = new LiveDataCombineUtil.Combiner2<A, B, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b) {
+                combineCount.incrementAndGet();
+                return a.getBlah() + b.getBlah();
+            }
+        };
+
+        LiveData<String> observed = LiveDataCombineUtil.combineLazy(a, b, combiner);
+        LiveData<String> polled = LiveDataCombineUtil.combineLazy(a, b, combiner);
+
+        assertThat(combineCount.get()).isEqualTo(0);
+
+        a.setValue(new A("a2"));
+
+        assertThat(combineCount.get()).isEqualTo(0);
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+
+        observed.observeForever(observer);
+
+        assertThat(combineCount.get()).isEqualTo(1);
+        assertThat(observed.getValue()).isEqualTo("a2b1");
+
+        assertThat(polled.getValue()).isEqualTo("a2b1");
+        assertThat(combineCount.get()).isEqualTo(2);
+
+        observed.removeObserver(observer);
+    }
+
+    @Test
+    public void combineEvaluatesOncePerActivation() {
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+        final MutableLiveData<C> c = new MutableLiveData<>(new C("c1"));
+
+        final AtomicInteger combineCount = new AtomicInteger();
+
+        LiveData<String> liveData = LiveDataCombineUtil.combine(a, b, c, new LiveDataCombineUtil.Combiner3<A, B, C, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b, @Nullable C c) {
+                combineCount.incrementAndGet();
+                return a.getBlah() + b.getBlah() + c.getBlah();
+            }
+        });
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+
+        assertThat(combineCount.get()).isEqualTo(1);
+
+        liveData.observeForever(observer);
+
+        assertThat(combineCount.get()).isEqualTo(1);
+
+        liveData.removeObserver(observer);
+
+        a.setValue(new A("a2"));
+        b.setValue(new B("b2"));
+        c.setValue(new C("c2"));
+
+        liveData.observeForever(observer);
+
+        assertThat(combineCount.get()).isEqualTo(2);
+        assertThat(liveData.getValue()).isEqualTo("a2b2c2");
+
+        liveData.removeObserver(observer);
+        liveData.observeForever(observer);
+
+        assertThat(combineCount.get()).isEqualTo(2);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void wideCombineEvaluatesOnceOnFirstActivation() {
+        final MutableLiveData<?>[] sources = new MutableLiveData<?>[16];
+        for(int i = 0; i < sources.length; i++) {
+            sources[i] = new MutableLiveData<>(i);
+        }
+
+        final AtomicInteger combineCount = new AtomicInteger();
+
+        LiveData<Integer> liveData = LiveDataCombineUtil.combineArrayIncremental(new LiveDataCombineUtil.IncrementalArrayCombiner<Integer>() {
+            @Nullable
+            @Override
+            public Integer combine(@Nonnull Object[] values, int changedIndex, @Nullable Object previousValue, @Nullable Integer previousResult) {
+                combineCount.incrementAndGet();
+                return values.length;
+            }
+        }, sources);
+
+        final Observer<Integer> observer = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer integer) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(combineCount.get()).isEqualTo(1);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void combineReduceFoldsSourcesInOrder() {
+        final MutableLiveData<String>[] sources = new MutableLiveData[5];
+        for(int i = 0; i < sources.length; i++) {
+            sources[i] = new MutableLiveData<>("" + i);
+        }
+        sources[3] = new MutableLiveData<>();
+
+        final AtomicInteger reduceCount = new AtomicInteger();
+
+        LiveData<String> liveData = LiveDataCombineUtil.combineReduce(sources, "", new LiveDataCombineUtil.Reducer<String>() {
+            @Nullable
+            @Override
+            public String reduce(@Nullable String left, @Nullable String right) {
+                reduceCount.incrementAndGet();
+                return left + right;
+            }
+        });
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(liveData.getValue()).isEqualTo("0124");
+
+        reduceCount.set(0);
+        sources[3].setValue("3");
+
+        assertThat(liveData.getValue()).isEqualTo("01234");
+        assertThat(reduceCount.get()).isEqualTo(3);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void aggregatesFollowSourceChanges() {
+        final MutableLiveData<Boolean> valid1 = new MutableLiveData<>(true);
+        final MutableLiveData<Boolean> valid2 = new MutableLiveData<>(false);
+        final MutableLiveData<Integer> progress1 = new MutableLiveData<>(10);
+        final MutableLiveData<Integer> progress2 = new MutableLiveData<>();
+
+        final LiveData<Boolean> allTrue = LiveDataCombineUtil.allTrue(valid1, valid2);
+        final LiveData<Boolean> anyTrue = LiveDataCombineUtil.anyTrue(valid1, valid2);
+        final LiveData<Long> sum = LiveDataCombineUtil.sumLong(progress1, progress2);
+        final LiveData<Integer> min = LiveDataCombineUtil.min(progress1, progress2);
+        final LiveData<Integer> count = LiveDataCombineUtil.countNonNull(progress1, progress2);
+
+        final Observer<Object> observer = new Observer<Object>() {
+            @Override
+            public void onChanged(Object o) {
+            }
+        };
+
+        allTrue.observeForever(observer);
+        anyTrue.observeForever(observer);
+        sum.observeForever(observer);
+        min.observeForever(observer);
+        count.observeForever(observer);
+
+        assertThat(allTrue.getValue()).isFalse();
+        assertThat(anyTrue.getValue()).isTrue();
+        assertThat(sum.getValue()).isEqualTo(10L);
+        assertThat(min.getValue()).isEqualTo(10);
+        assertThat(count.getValue()).isEqualTo(1);
+
+        valid2.setValue(true);
+        progress2.setValue(5);
+
+        assertThat(allTrue.getValue()).isTrue();
+        assertThat(sum.getValue()).isEqualTo(15L);
+        assertThat(min.getValue()).isEqualTo(5);
+        assertThat(count.getValue()).isEqualTo(2);
+
+        valid1.setValue(false);
+        valid2.setValue(false);
+        progress1.setValue(null);
+
+        assertThat(anyTrue.getValue()).isFalse();
+        assertThat(sum.getValue()).isEqualTo(5L);
+        assertThat(min.getValue()).isEqualTo(5);
+        assertThat(count.getValue()).isEqualTo(1);
+
+        allTrue.removeObserver(observer);
+        anyTrue.removeObserver(observer);
+        sum.removeObserver(observer);
+        min.removeObserver(observer);
+        count.removeObserver(observer);
+    }
+
+    @Test
+    public void combineIntEmitsLikeCombine() {
+        final MutableLiveData<Integer> x = new MutableLiveData<>(1000);
+        final MutableLiveData<Integer> y = new MutableLiveData<>(2000);
+
+        LiveData<Integer> liveData = LiveDataCombineUtil.combineInt(x, y, new LiveDataCombineUtil.IntCombiner2() {
+            @Override
+            public int combine(int x, int y) {
+                return x + y;
+            }
+        });
+
+        final List<Integer> emissions = new ArrayList<>();
+        final Observer<Integer> observer = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer value) {
+                emissions.add(value);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        x.setValue(1500);
+        y.setValue(1500);
+        y.setValue(null);
+
+        assertThat(emissions).containsExactly(3000, 3500, 3000, 1500);
+
+        x.setValue(1500);
+
+        assertThat(emissions).containsExactly(3000, 3500, 3000, 1500, 1500);
+        assertThat(emissions.get(4)).isSameAs(emissions.get(3)); // the unchanged result is not boxed again
+
+        liveData.removeObserver(observer);
+
+        emissions.clear();
+        LiveData<Integer> distinct = LiveDataCombineUtil.combineInt(x, y, new LiveDataCombineUtil.IntCombiner2() {
+            @Override
+            public int combine(int x, int y) {
+                return x + y;
+            }
+        }).distinctUntilChanged();
+        distinct.observeForever(observer);
+
+        x.setValue(1500);
+        y.setValue(0);
+
+        assertThat(emissions).containsExactly(1500);
+
+        distinct.removeObserver(observer);
+    }
+
+    @Test
+    public void combineDynamicAttachesAndDetachesSources() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+        final MutableLiveData<Integer> c = new MutableLiveData<>(3);
+
+        final AtomicInteger changeCount = new AtomicInteger();
+
+        DynamicCombinedLiveData<Integer, Integer> liveData = LiveDataCombineUtil.combineDynamic(0, new LiveDataCombineUtil.DynamicCombiner<Integer, Integer>() {
+            @Nullable
+            @Override
+            public Integer onAdded(@Nullable Integer previousResult, @Nullable Integer value) {
+                return previousResult + value;
+            }
+
+            @Nullable
+            @Override
+            public Integer onRemoved(@Nullable Integer previousResult, @Nullable Integer value) {
+                return previousResult - value;
+            }
+
+            @Nullable
+            @Override
+            public Integer onChanged(@Nullable Integer previousResult, @Nullable Integer previousValue, @Nullable Integer value) {
+                changeCount.incrementAndGet();
+                return previousResult - previousValue + value;
+            }
+        });
+
+        final Observer<Integer> observer = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer integer) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        liveData.attach(a);
+        liveData.attach(b);
+
+        assertThat(liveData.getValue()).isEqualTo(3);
+
+        liveData.attach(c);
+        a.setValue(10);
+
+        assertThat(liveData.getValue()).isEqualTo(15);
+        assertThat(changeCount.get()).isEqualTo(1);
+
+        liveData.detach(b);
+
+        assertThat(liveData.getValue()).isEqualTo(13);
+        assertThat(liveData.getSourceCount()).isEqualTo(2);
+
+        b.setValue(100);
+
+        assertThat(liveData.getValue()).isEqualTo(13);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineKeyedEmitsPersistentMaps() {
+        final MutableLiveData<String> a = new MutableLiveData<>("a");
+        final MutableLiveData<String> b = new MutableLiveData<>("b");
+        final MutableLiveData<String> c = new MutableLiveData<>("c");
+
+        final Map<String, LiveData<String>> sources = new LinkedHashMap<>();
+        sources.put("a", a);
+        sources.put("b", b);
+
+        final List<Map<String, String>> emissions = new ArrayList<>();
+
+        KeyedCombinedLiveData<String, String> liveData = LiveDataCombineUtil.combineKeyed(sources);
+
+        final Observer<PersistentMap<String, String>> observer = new Observer<PersistentMap<String, String>>() {
+            @Override
+            public void onChanged(PersistentMap<String, String> map) {
+                emissions.add(map);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(emissions).hasSize(1);
+        assertThat(liveData.getValue()).containsOnly(entry("a", "a"), entry("b", "b"));
+
+        final PersistentMap<String, String> before = liveData.getValue();
+
+        a.setValue("A");
+        liveData.attach("c", c);
+        liveData.detach("b");
+
+        assertThat(liveData.getValue()).containsOnly(entry("a", "A"), entry("c", "c"));
+        assertThat(before).containsOnly(entry("a", "a"), entry("b", "b"));
+        assertThat(emissions).hasSize(4);
+
+        b.setValue("B");
+
+        assertThat(emissions).hasSize(4);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineKeyedObservesSharedSourceOnce() {
+        final MutableLiveData<String> shared = new MutableLiveData<>("s");
+        final MutableLiveData<String> other = new MutableLiveData<>("o");
+
+        final Map<String, LiveData<String>> sources = new LinkedHashMap<>();
+        sources.put("a", shared);
+        sources.put("b", shared);
+
+        KeyedCombinedLiveData<String, String> liveData = LiveDataCombineUtil.combineKeyed(sources);
+
+        final List<Map<String, String>> emissions = new ArrayList<>();
+        final Observer<PersistentMap<String, String>> observer = new Observer<PersistentMap<String, String>>() {
+            @Override
+            public void onChanged(PersistentMap<String, String> map) {
+                emissions.add(map);
+            }
+        };
+
+        liveData.observeForever(observer);
+        liveData.attach("c", shared);
+
+        assertThat(liveData.getValue()).containsOnly(entry("a", "s"), entry("b", "s"), entry("c", "s"));
+        assertThat(liveData.getSourceCount()).isEqualTo(3);
+
+        emissions.clear();
+        shared.setValue("S");
+
+        assertThat(emissions).hasSize(1);
+        assertThat(liveData.getValue()).containsOnly(entry("a", "S"), entry("b", "S"), entry("c", "S"));
+
+        liveData.detach("a");
+        liveData.detach("b");
+        shared.setValue("S2");
+
+        assertThat(liveData.getValue()).containsOnly(entry("c", "S2"));
+
+        liveData.detach("c");
+
+        assertThat(shared.hasObservers()).isFalse();
+
+        try {
+            liveData.attach("o", other);
+            liveData.attach("o", shared);
+            Assert.fail();
+        } catch(IllegalArgumentException expected) {
+        }
+
+        assertThat(liveData.getValue()).containsOnly(entry("o", "o"));
+        assertThat(liveData.isAttached("o")).isTrue();
+        assertThat(liveData.getSourceCount()).isEqualTo(1);
+        assertThat(shared.hasObservers()).isFalse();
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void persistentMapMatchesHashMap() {
+        final class Key {
+            private final int value;
+
+            Key(int value) {
+                this.value = value;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof Key && ((Key) o).value == value;
+            }
+
+            @Override
+            public int hashCode() {
+                return value % 100; // forces collisions
+            }
+        }
+
+        final Random random = new Random(42);
+        final Map<Key, Integer> expected = new HashMap<>();
+        PersistentMap<Key, Integer> map = PersistentMap.empty();
+
+        for(int i = 0; i < 10000; i++) {
+            final Key key = new Key(random.nextInt(1000));
+            if(random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            }
+        }
+
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.size()).isEqualTo(expected.size());
+        for(Key key : expected.keySet()) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    public void multiplexedCombinesObserveSharedSourceOnce() {
+        final AtomicInteger subscriptionCount = new AtomicInteger();
+
+        final MutableLiveData<String> settings = new MutableLiveData<String>("x") {
+            @Override
+            public void observeForever(@Nonnull Observer<? super String> observer) {
+                subscriptionCount.incrementAndGet();
+                super.observeForever(observer);
+            }
+        };
+
+        final List<CombinedLiveData<String>> liveDatas = new ArrayList<>();
+        final List<Observer<String>> observers = new ArrayList<>();
+
+        for(int i = 0; i < 100; i++) {
+            CombinedLiveData<String> liveData = LiveDataCombineUtil.combine(settings, new MutableLiveData<>(i), new LiveDataCombineUtil.Combiner2<String, Integer, String>() {
+                @Nonnull
+                @Override
+                public String combine(@Nullable String first, @Nullable Integer second) {
+                    return first + second;
+                }
+            }).multiplexed();
+
+            final Observer<String> observer = new Observer<String>() {
+                @Override
+                public void onChanged(String s) {
+                }
+            };
+            liveData.observeForever(observer);
+
+            liveDatas.add(liveData);
+            observers.add(observer);
+        }
+
+        assertThat(subscriptionCount.get()).isEqualTo(1);
+
+        settings.setValue("y");
+
+        assertThat(liveDatas.get(0).getValue()).isEqualTo("y0");
+        assertThat(liveDatas.get(99).getValue()).isEqualTo("y99");
+
+        liveDatas.get(0).removeObserver(observers.get(0));
+        settings.setValue("z");
+        liveDatas.get(0).observeForever(observers.get(0));
+
+        assertThat(liveDatas.get(0).getValue()).isEqualTo("z0");
+        assertThat(subscriptionCount.get()).isEqualTo(1);
+
+        for(int i = 0; i < 100; i++) {
+            liveDatas.get(i).removeObserver(observers.get(i));
+        }
+
+        assertThat(settings.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void multiplexedDependentsCanBeAddedAndRemovedWhileDispatching() {
+        final MutableLiveData<String> settings = new MutableLiveData<>("x");
+        final List<String> evaluations = new ArrayList<>();
+
+        final List<CombinedLiveData<String>> liveDatas = new ArrayList<>();
+        final List<Observer<String>> observers = new ArrayList<>();
+
+        for(int i = 0; i < 5; i++) {
+            liveDatas.add(LiveDataCombineUtil.combine(settings, new MutableLiveData<>(i), new LiveDataCombineUtil.Combiner2<String, Integer, String>() {
+                @Nonnull
+                @Override
+                public String combine(@Nullable String first, @Nullable Integer second) {
+                    evaluations.add(first + second);
+                    return first + second;
+                }
+            }).multiplexed());
+            observers.add(new Observer<String>() {
+                @Override
+                public void onChanged(String s) {
+                }
+            });
+        }
+
+        // fills the fanout, then removes and adds dependents and changes the source in the middle of a dispatch
+        observers.set(0, new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+                if("y0".equals(s)) {
+                    liveDatas.get(1).removeObserver(observers.get(1));
+                    settings.setValue("z");
+                    liveDatas.get(4).observeForever(observers.get(4));
+                }
+            }
+        });
+        for(int i = 0; i < 4; i++) {
+            liveDatas.get(i).observeForever(observers.get(i));
+        }
+        evaluations.clear();
+
+        settings.setValue("y");
+
+        assertThat(evaluations).containsExactly("y0", "y4", "y2", "y3", "z0", "z2", "z3", "z4");
+        assertThat(liveDatas.get(1).getValue()).isEqualTo("x1");
+
+        for(int i = 0; i < 5; i++) {
+            liveDatas.get(i).removeObserver(observers.get(i));
+        }
+
+        assertThat(settings.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void transactionEvaluatesEachNodeOnce() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+        final MutableLiveData<Integer> c = new MutableLiveData<>(3);
+
+        final AtomicInteger sumCount = new AtomicInteger();
+        final AtomicInteger productCount = new AtomicInteger();
+
+        final LiveData<Integer> sum = LiveDataCombineUtil.combine(a, b, c, new LiveDataCombineUtil.Combiner3<Integer, Integer, Integer, Integer>() {
+            @Nonnull
+            @Override
+            public Integer combine(@Nullable Integer first, @Nullable Integer second, @Nullable Integer third) {
+                sumCount.incrementAndGet();
+                return first + second + third;
+            }
+        });
+
+        final LiveData<Integer> product = LiveDataCombineUtil.combine(a, sum, new LiveDataCombineUtil.Combiner2<Integer, Integer, Integer>() {
+            @Nonnull
+            @Override
+            public Integer combine(@Nullable Integer first, @Nullable Integer second) {
+                productCount.incrementAndGet();
+                return first * second;
+            }
+        });
+
+        final List<Integer> emissions = new ArrayList<>();
+
+        final Observer<Integer> observer = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer integer) {
+                emissions.add(integer);
+            }
+        };
+
+        product.observeForever(observer);
+
+        sumCount.set(0);
+        productCount.set(0);
+        emissions.clear();
+
+        LiveDataCombineUtil.transaction(new Runnable() {
+            @Override
+            public void run() {
+                a.setValue(10);
+                b.setValue(20);
+                c.setValue(30);
+            }
+        });
+
+        assertThat(sumCount.get()).isEqualTo(1);
+        assertThat(productCount.get()).isEqualTo(1);
+        assertThat(emissions).containsExactly(600);
+
+        product.removeObserver(observer);
+    }
+
+    @Test
+    public void transactionHoldsBackDynamicKeyedAndGraphEmissions() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(1);
+
+        final DynamicCombinedLiveData<Integer, Integer> dynamic = LiveDataCombineUtil.combineDynamic(0, new LiveDataCombineUtil.DynamicCombiner<Integer, Integer>() {
+            @Nullable
+            @Override
+            public Integer onAdded(@Nullable Integer previousResult, @Nullable Integer value) {
+                return previousResult + value;
+            }
+
+            @Nullable
+            @Override
+            public Integer onRemoved(@Nullable Integer previousResult, @Nullable Integer value) {
+                return previousResult - value;
+            }
+
+            @Nullable
+            @Override
+            public Integer onChanged(@Nullable Integer previousResult, @Nullable Integer previousValue, @Nullable Integer value) {
+                return previousResult - previousValue + value;
+            }
+        });
+        dynamic.attach(a);
+        dynamic.attach(b);
+
+        final Map<String, LiveData<Integer>> sources = new LinkedHashMap<>();
+        sources.put("a", a);
+        sources.put("b", b);
+        final KeyedCombinedLiveData<String, Integer> keyed = LiveDataCombineUtil.combineKeyed(sources);
+
+        final CombineGraph.Builder builder = CombineGraph.builder();
+        final CombineGraph.Node<Integer> sum = builder.output(builder.combine(builder.source(a), builder.source(b), new LiveDataCombineUtil.Combiner2<Integer, Integer, Integer>() {
+            @Nonnull
+            @Override
+            public Integer combine(@Nullable Integer first, @Nullable Integer second) {
+                return first + second;
+            }
+        }));
+        final LiveData<Integer> graph = builder.build().getOutput(sum);
+
+        final List<Object> dynamicEmissions = new ArrayList<>();
+        final List<Object> keyedEmissions = new ArrayList<>();
+        final List<Object> graphEmissions = new ArrayList<>();
+        final Observer<Integer> dynamicObserver = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer value) {
+                dynamicEmissions.add(value);
+            }
+        };
+        final Observer<PersistentMap<String, Integer>> keyedObserver = new Observer<PersistentMap<String, Integer>>() {
+            @Override
+            public void onChanged(PersistentMap<String, Integer> value) {
+                keyedEmissions.add(value);
+            }
+        };
+        final Observer<Integer> graphObserver = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer value) {
+                graphEmissions.add(value);
+            }
+        };
+        dynamic.observeForever(dynamicObserver);
+        keyed.observeForever(keyedObserver);
+        graph.observeForever(graphObserver);
+        dynamicEmissions.clear();
+        keyedEmissions.clear();
+        graphEmissions.clear();
+
+        LiveDataCombineUtil.transaction(new Runnable() {
+            @Override
+            public void run() {
+                a.setValue(10);
+                b.setValue(20);
+
+                assertThat(dynamicEmissions).isEmpty();
+                assertThat(keyedEmissions).isEmpty();
+                assertThat(graphEmissions).isEmpty();
+            }
+        });
+
+        assertThat(dynamicEmissions).containsExactly(30);
+        assertThat(keyedEmissions).hasSize(1);
+        assertThat(keyed.getValue()).containsOnly(entry("a", 10), entry("b", 20));
+        assertThat(graphEmissions).containsExactly(30);
+
+        a.setValue(11);
+
+        assertThat(dynamicEmissions).containsExactly(30, 31);
+        assertThat(keyedEmissions).hasSize(2);
+        assertThat(graphEmissions).containsExactly(30, 31);
+
+        dynamic.removeObserver(dynamicObserver);
+        keyed.removeObserver(keyedObserver);
+        graph.removeObserver(graphObserver);
+    }
+
+    @Test
+    public void diamondIsEvaluatedOnceWithConsistentValues() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+
+        final LiveData<Integer> c = LiveDataCombineUtil.combine(a, b, new LiveDataCombineUtil.Combiner2<Integer, Integer, Integer>() {
+            @Nonnull
+            @Override
+            public Integer combine(@Nullable Integer first, @Nullable Integer second) {
+                return first + second;
+            }
+        });
+
+        final List<String> evaluations = new ArrayList<>();
+
+        final LiveDataCombineUtil.Combiner2<Integer, Integer, String> combiner = new LiveDataCombineUtil.Combiner2<Integer, Integer, String>() {
+            @Nonnull
+            @Override
+            public String combine(@Nullable Integer first, @Nullable Integer second) {
+                final String result = first + "+" + b.getValue() + "=" + second;
+                evaluations.add(result);
+                return result;
+            }
+        };
+
+        // a is observed by d before c
+        final LiveData<String> d = LiveDataCombineUtil.combine(a, c, combiner);
+        // a is observed by c before e
+        final LiveData<String> e = LiveDataCombineUtil.combine(c, a, new LiveDataCombineUtil.Combiner2<Integer, Integer, String>() {
+            @Nonnull
+            @Override
+            public String combine(@Nullable Integer first, @Nullable Integer second) {
+                return combiner.combine(second, first);
+            }
+        });
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+
+        d.observeForever(observer);
+        e.observeForever(observer);
+
+        evaluations.clear();
+
+        a.setValue(10);
+
+        assertThat(evaluations).containsExactly("10+2=12", "10+2=12");
+
+        d.removeObserver(observer);
+        e.removeObserver(observer);
+    }
+
+    @Test
+    public void combineGraphEvaluatesDirtyNodesOnce() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+
+        final AtomicInteger evaluationCount = new AtomicInteger();
+
+        final LiveDataCombineUtil.Combiner2<Integer, Integer, Integer> sum = new LiveDataCombineUtil.Combiner2<Integer, Integer, Integer>() {
+            @Nonnull
+            @Override
+            public Integer combine(@Nullable Integer first, @Nullable Integer second) {
+                evaluationCount.incrementAndGet();
+                return first + second;
+            }
+        };
+
+        final CombineGraph.Builder builder = CombineGraph.builder();
+        final CombineGraph.Node<Integer> nodeA = builder.source(a);
+        final CombineGraph.Node<Integer> nodeB = builder.source(b);
+
+        CombineGraph.Node<Integer> chain = builder.combine(nodeA, nodeB, sum);
+        for(int i = 0; i < 50; i++) {
+            chain = builder.combine(chain, nodeA, sum);
+        }
+        final CombineGraph.Node<Integer> parity = builder.combineArray(new LiveDataCombineUtil.ArrayCombiner<Integer>() {
+            @Nullable
+            @Override
+            public Integer combine(@Nonnull Object[] values) {
+                evaluationCount.incrementAndGet();
+                return (Integer) values[0] % 2;
+            }
+        }, nodeB);
+        final CombineGraph.Node<Integer> output = builder.output(builder.combine(chain, parity, sum));
+
+        final CombineGraph graph = builder.build();
+        final LiveData<Integer> liveData = graph.getOutput(output);
+
+        final List<Integer> emissions = new ArrayList<>();
+
+        final Observer<Integer> observer = new Observer<Integer>() {
+            @Override
+            public void onChanged(Integer integer) {
+                emissions.add(integer);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(emissions).containsExactly(1 + 2 + 50 + 0);
+
+        evaluationCount.set(0);
+        a.setValue(2);
+
+        assertThat(evaluationCount.get()).isEqualTo(52);
+        assertThat(emissions).containsExactly(53, 2 + 2 + 100 + 0);
+
+        evaluationCount.set(0);
+        b.setValue(4);
+
+        assertThat(evaluationCount.get()).isEqualTo(53);
+        assertThat(emissions).containsExactly(53, 104, 2 + 4 + 100 + 0);
+
+        liveData.removeObserver(observer);
+
+        assertThat(a.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void fusedOperatorsApplyWithinTheCombinedNode() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+        final MutableLiveData<String> even = new MutableLiveData<>("even");
+        final MutableLiveData<String> odd = new MutableLiveData<>("odd");
+
+        final AtomicInteger combineCount = new AtomicInteger();
+
+        final CombinedLiveData<Integer> combined = LiveDataCombineUtil.combine(a, b, new LiveDataCombineUtil.Combiner2<Integer, Integer, Integer>() {
+            @Nonnull
+            @Override
+            public Integer combine(@Nullable Integer first, @Nullable Integer second) {
+                combineCount.incrementAndGet();
+                return first + second;
+            }
+        });
+
+        final LiveData<String> liveData = combined.filter(new LiveDataCombineUtil.Predicate<Integer>() {
+            @Override
+            public boolean test(@Nullable Integer value) {
+                return value < 100;
+            }
+        }).map(new Function<Integer, Boolean>() {
+            @Override
+            public Boolean apply(Integer value) {
+                return value % 2 == 0;
+            }
+        }).distinct().switchMap(new Function<Boolean, LiveData<String>>() {
+            @Override
+            public LiveData<String> apply(Boolean isEven) {
+                return isEven ? even : odd;
+            }
+        });
+
+        final List<String> emissions = new ArrayList<>();
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+                emissions.add(s);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(emissions).containsExactly("odd");
+
+        a.setValue(3); // 5, still odd
+        a.setValue(100); // filtered
+        odd.setValue("ODD");
+        a.setValue(2); // 4, even
+
+        assertThat(emissions).containsExactly("odd", "ODD", "even");
+        assertThat(combineCount.get()).isEqualTo(4);
+
+        liveData.removeObserver(observer);
+
+        assertThat(odd.hasObservers()).isFalse();
+        assertThat(even.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void combineMultiEmitsOnlyChangedOutputs() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+
+        final AtomicInteger combineCount = new AtomicInteger();
+
+        final CombinedOutputs outputs = LiveDataCombineUtil.combineMulti(2, new LiveDataCombineUtil.MultiCombiner() {
+            @Override
+            public void combine(@Nonnull Object[] values, @Nonnull Object[] outputs) {
+                combineCount.incrementAndGet();
+                final int sum = (Integer) values[0] + (Integer) values[1];
+                outputs[0] = sum;
+                outputs[1] = sum % 2 == 0;
+            }
+        }, a, b);
+
+        final LiveData<Integer> sum = outputs.getOutput(0);
+        final LiveData<Boolean> isEven = outputs.getOutput(1);
+
+        final List<Object> emissions = new ArrayList<>();
+
+        final Observer<Object> observer = new Observer<Object>() {
+            @Override
+            public void onChanged(Object value) {
+                emissions.add(value);
+            }
+        };
+
+        sum.observeForever(observer);
+        isEven.observeForever(observer);
+
+        assertThat(emissions).containsExactly(3, false);
+
+        a.setValue(3); // 5, still odd
+
+        assertThat(emissions).containsExactly(3, false, 5);
+
+        b.setValue(3); // 6
+
+        assertThat(emissions).containsExactly(3, false, 5, 6, true);
+        assertThat(combineCount.get()).isEqualTo(3);
+
+        sum.removeObserver(observer);
+        isEven.removeObserver(observer);
+
+        assertThat(a.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void memoizedCombinerReusesResultsForPreviousInputs() {
+        final MutableLiveData<String> text = new MutableLiveData<>("a");
+        final MutableLiveData<Boolean> upperCase = new MutableLiveData<>(false);
+
+        final AtomicInteger combineCount = new AtomicInteger();
+
+        final CombinedLiveData<String> liveData = LiveDataCombineUtil.combine(text, upperCase, new LiveDataCombineUtil.Combiner2<String, Boolean, String>() {
+            @Nonnull
+            @Override
+            public String combine(@Nullable String text, @Nullable Boolean upperCase) {
+                combineCount.incrementAndGet();
+                return upperCase ? text.toUpperCase() : text;
+            }
+        }).memoized(2);
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        combineCount.set(0);
+
+        upperCase.setValue(true);
+        upperCase.setValue(false);
+        upperCase.setValue(true);
+        upperCase.setValue(false);
+
+        assertThat(liveData.getValue()).isEqualTo("a");
+        assertThat(combineCount.get()).isEqualTo(2);
+        assertThat(liveData.getCombinerCache().getHitCount()).isEqualTo(2);
+        assertThat(liveData.getCombinerCache().getMissCount()).isEqualTo(2);
+
+        text.setValue("b"); // evicts ("a", true)
+        upperCase.setValue(true);
+
+        assertThat(liveData.getValue()).isEqualTo("B");
+        assertThat(combineCount.get()).isEqualTo(4);
+        assertThat(liveData.getCombinerCache().size()).isEqualTo(2);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineMetricsReportsEvaluationsSkipsAndDispatches() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+
+        final List<String> events = new ArrayList<>();
+
+        final CombineMetrics.Listener listener = new CombineMetrics.Listener() {
+            @Override
+            public void onEvaluated(@Nullable String name, long combinerTimeNanos) {
+                events.add("evaluated " + name);
+            }
+
+            @Override
+            public void onInputSkipped(@Nullable String name) {
+                events.add("skipped " + name);
+            }
+
+            @Override
+            public void onEmissionDeduplicated(@Nullable String name) {
+                events.add("deduplicated " + name);
+            }
+
+            @Override
+            public void onDispatched(@Nullable String name, long dispatchTimeNanos) {
+                events.add("dispatched " + name);
+            }
+        };
+
+        CombineMetrics.install(listener);
+
+        try {
+            final CombinedLiveData<Boolean> liveData = LiveDataCombineUtil.combine(a, b, new LiveDataCombineUtil.Combiner2<Integer, Integer, Boolean>() {
+                @Nonnull
+                @Override
+                public Boolean combine(@Nullable Integer first, @Nullable Integer second) {
+                    return first < second;
+                }
+            }).named("lessThan").distinctInputs(LiveDataCombineUtil.byEquals()).distinctUntilChanged();
+
+            final Observer<Boolean> observer = new Observer<Boolean>() {
+                @Override
+                public void onChanged(Boolean aBoolean) {
+                }
+            };
+
+            liveData.observeForever(observer);
+            events.clear();
+
+            a.setValue(1);
+            a.setValue(0);
+            a.setValue(5);
+
+            assertThat(events).containsExactly(
+                    "skipped lessThan",
+                    "evaluated lessThan",
+                    "deduplicated lessThan",
+                    "evaluated lessThan",
+                    "dispatched lessThan"
+            );
+
+            CombineMetrics.install(listener, 2);
+            events.clear();
+
+            a.setValue(6);
+            a.setValue(7);
+            a.setValue(8);
+            a.setValue(9);
+
+            assertThat(events).containsExactly("evaluated lessThan", "deduplicated lessThan", "evaluated lessThan", "deduplicated lessThan");
+
+            liveData.removeObserver(observer);
+        } finally {
+            CombineMetrics.uninstall();
+        }
+
+        assertThat(CombineMetrics.listener).isNull();
+    }
+
+    @Test
+    public void slowCombinerPolicyReportsCreationSite() {
+        final MutableLiveData<Integer> a = new MutableLiveData<>(1);
+        final MutableLiveData<Integer> b = new MutableLiveData<>(2);
+
+        final List<SlowCombinerViolation> violations = new ArrayList<>();
+
+        SlowCombinerPolicy.install(new SlowCombinerPolicy.Builder()
+                .threshold(200, TimeUnit.MILLISECONDS)
+                .penaltyListener(new SlowCombinerPolicy.Listener() {
+                    @Override
+                    public void onViolation(@Nonnull SlowCombinerViolation violation) {
+                        violations.add(violation);
+                    }
+                })
+                .penaltyThrow()
+                .build());
+
+        try {
+            final CombinedLiveData<Integer> liveData = LiveDataCombineUtil.combineLazy(a, b, new LiveDataCombineUtil.Combiner2<Integer, Integer, Integer>() {
+                @Nonnull
+                @Override
+                public Integer combine(@Nullable Integer first, @Nullable Integer second) {
+                    if(first > 10) {
+                        try {
+                            Thread.sleep(500);
+                        } catch(InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    return first + second;
+                }
+            }).named("slowSum");
+
+            final Observer<Integer> observer = new Observer<Integer>() {
+                @Override
+                public void onChanged(Integer integer) {
+                }
+            };
+
+            liveData.observeForever(observer);
+
+            a.setValue(5);
+
+            assertThat(violations).isEmpty();
+
+            try {
+                a.setValue(50);
+                Assert.fail("The violation should be thrown");
+            } catch(SlowCombinerViolation violation) {
+                assertThat(violation.getName()).isEqualTo("slowSum");
+                assertThat(violation.getDurationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+                final List<String> creationSiteMethods = new ArrayList<>();
+                for(StackTraceElement element : violation.getCause().getStackTrace()) {
+                    creationSiteMethods.add(element.getMethodName());
+                }
+                assertThat(creationSiteMethods).contains("combineLazy", "slowCombinerPolicyReportsCreationSite");
+            }
+
+            assertThat(violations).hasSize(1);
+
+            liveData.removeObserver(observer);
+        } finally {
+            SlowCombinerPolicy.uninstall();
+        }
+    }
+
+    @Test
+    public void combineAsyncIsNotEvaluatedUntilActive() {
+        final List<Runnable> backgroundTasks = new ArrayList<>();
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(@Nonnull Runnable command) {
+                backgroundTasks.add(command);
+            }
+        };
+
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        LiveData<String> liveData = LiveDataCombineUtil.combineAsync(a, b, executor, new LiveDataCombineUtil.Combiner2<A, B, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b) {
+                return a.getBlah() + b.getBlah();
+            }
+        });
+        LiveData<Object[]> arrayLiveData = LiveDataCombineUtil.combineArrayAsync(executor, new LiveDataCombineUtil.ArrayCombiner<Object[]>() {
+            @Nullable
+            @Override
+            public Object[] combine(@Nonnull Object[] values) {
+                return values;
+            }
+        }, a, b);
+
+        assertThat(backgroundTasks).isEmpty();
+
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+            }
+        };
+        liveData.observeForever(observer);
+
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.get(0).run();
+
+        assertThat(liveData.getValue()).isEqualTo("a1b1");
+        assertThat(arrayLiveData.getValue()).isNull(); // submitted by getValue(), emitted once it completes
+        assertThat(backgroundTasks).hasSize(2);
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void fusedOperatorsKeepThePendingAsyncResult() {
+        final List<Runnable> backgroundTasks = new ArrayList<>();
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(@Nonnull Runnable command) {
+                backgroundTasks.add(command);
+            }
+        };
+
+        final MutableLiveData<A> a = new MutableLiveData<>(new A("a1"));
+        final MutableLiveData<B> b = new MutableLiveData<>(new B("b1"));
+
+        LiveData<String> liveData = LiveDataCombineUtil.combineAsync(a, b, executor, new LiveDataCombineUtil.Combiner2<A, B, String>() {
+            @Nullable
+            @Override
+            public String combine(@Nullable A a, @Nullable B b) {
+                return a.getBlah() + b.getBlah();
+            }
+        }).map(new Function<String, String>() {
+            @Override
+            public String apply(String input) {
+                return "v" + input;
+            }
+        });
+
+        final List<String> emissions = new ArrayList<>();
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+                emissions.add(s);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        for(int i = 0; i < backgroundTasks.size(); i++) {
+            backgroundTasks.get(i).run();
+        }
+        backgroundTasks.clear();
+
+        assertThat(emissions).containsExactly("va1b1");
+
+        a.setValue(new A("a2"));
+
+        for(Runnable task : backgroundTasks) {
+            task.run();
+        }
+
+        assertThat(emissions).containsExactly("va1b1", "va2b1");
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void switchMapCanSwitchToOneOfTheSources() {
+        final MutableLiveData<Boolean> useFirst = new MutableLiveData<>(true);
+        final MutableLiveData<String> first = new MutableLiveData<>("a");
+        final MutableLiveData<String> second = new MutableLiveData<>("b");
+
+        LiveData<String> liveData = LiveDataCombineUtil.combine(useFirst, first, new LiveDataCombineUtil.Combiner2<Boolean, String, Boolean>() {
+            @Nullable
+            @Override
+            public Boolean combine(@Nullable Boolean useFirst, @Nullable String first) {
+                return useFirst;
+            }
+        }).switchMap(new Function<Boolean, LiveData<String>>() {
+            @Override
+            public LiveData<String> apply(Boolean useFirst) {
+                return useFirst ? first : second;
+            }
+        });
+
+        final List<String> emissions = new ArrayList<>();
+        final Observer<String> observer = new Observer<String>() {
+            @Override
+            public void onChanged(String s) {
+                emissions.add(s);
+            }
+        };
+
+        liveData.observeForever(observer);
+
+        assertThat(emissions).containsExactly("a");
+
+        first.setValue("a2");
+        useFirst.setValue(false);
+        second.setValue("b2");
+        first.setValue("a3");
+        useFirst.setValue(true);
+
+        assertThat(emissions).containsExactly("a", "a2", "b", "b2", "a3");
+
+        liveData.removeObserver(observer);
+        first.setValue("a4");
+        liveData.observeForever(observer);
+
+        assertThat(liveData.getValue()).isEqualTo("a4");
+
+        liveData.removeObserver(observer);
+    }
+
+    @Test
+    public void combineArraySnapshotCannotBeComparedWithItself() {
+        final MutableLiveData<String> a = new MutableLiveData<>("a");
+        final MutableLiveData<String> b = new MutableLiveData<>("b");
+
+        try {
+            LiveDataCombineUtil.combineArraySnapshot(a, b).distinctUntilChanged();
+            Assert.fail();
+        } catch(UnsupportedOperationException expected) {
+        }
+
+        try {
+            LiveDataCombineUtil.combineArraySnapshot(a, b).filter(new LiveDataCombineUtil.Predicate<ArraySnapshot>() {
+                @Override
+                public boolean test(@Nullable ArraySnapshot snapshot) {
+                    return true;
+                }
+            }).distinct();
+            Assert.fail();
+        } catch(UnsupportedOperationException expected) {
+        }
+
+        final List<ArraySnapshot> snapshots = new ArrayList<>();
+        final Observer<ArraySnapshot> snapshotObserver = new Observer<ArraySnapshot>() {
+            @Override
+            public void onChanged(ArraySnapshot snapshot) {
+                snapshots.add(snapshot);
+            }
+        };
+
+        // the same instance reaches the comparison, so it is always emitted rather than thrown from the dispatch of the source
+        LiveData<ArraySnapshot> identity = LiveDataCombineUtil.combineArraySnapshot(a, b).map(new Function<ArraySnapshot, ArraySnapshot>() {
+            @Override
+            public ArraySnapshot apply(ArraySnapshot snapshot) {
+                return snapshot;
+            }
+        }).distinct().distinctUntilChanged();
+        identity.observeForever(snapshotObserver);
+        a.setValue("a2");
+        a.setValue("a");
+
+        assertThat(snapshots).hasSize(3);
+
+        identity.removeObserver(snapshotObserver);
+
+        final List<List<Object>> emissions = new ArrayList<>();
+        final Observer<List<Object>> observer = new Observer<List<Object>>() {
+            @Override
+            public void onChanged(List<Object> values) {
+                emissions.add(values);
+            }
+        };
+
+        LiveData<List<Object>> copies = LiveDataCombineUtil.combineArraySnapshot(a, b).map(new Function<ArraySnapshot, List<Object>>() {
+            @Override
+            public List<Object> apply(ArraySnapshot snapshot) {
+                return snapshot.copy();
+            }
+        }).distinct();
+        copies.observeForever(observer);
+
+        b.setValue("b2");
+        b.setValue("b2");
+        a.setValue("a3");
+
+        assertThat(emissions).containsExactly(Arrays.<Object>asList("a", "b"), Arrays.<Object>asList("a", "b2"), Arrays.<Object>asList("a3", "b2"));
+
+        copies.removeObserver(observer);
+    }
+
+    private static boolean isAllocatedBytesCounterAvailable() {
+        if(!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean)) {
+            return false;
+        }
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    private static long measureAllocatedBytesPerEmission(LiveData<?> liveData, MutableLiveData<A> source, int emissions) {
+        final Observer<Object> observer = new Observer<Object>() {
+            @Override
+            public void onChanged(Object o) {
+            }
+        };
+        liveData.observeForever(observer);
+
+        final A first = new A("first");
+        final A second = new A("second");
+
+        for(int i = 0; i < emissions; i++) { // warm-up
+            source.setValue(i % 2 == 0 ? first : second);
+        }
+
+        final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for(int i = 0; i < emissions; i++) {
+            source.setValue(i % 2 == 0 ? first : second);
+        }
+        final long end = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        liveData.removeObserver(observer);
+
+        return (end - start) / emissions;
+    }
+}
@@ -1 +1,2 @@
-include(":livedata-combineutil-java")
\ No newline at end of file
+include(":livedata-combineutil-java")
+include(":livedata-combineutil-java-benchmark")